@@ -0,0 +1,53 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and shuffling a deck, and drawing from it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck();
+    }
+
+    /**
+     * Builds and shuffles a whole deck.
+     */
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck();
+    }
+
+    /**
+     * Draws a card and plays it at once, so the deck is replenished from the played cards every
+     * time it runs out: the time includes the share of {@code replenishDeck} of each draw.
+     */
+    @Benchmark
+    public Card takeCardAndReplenish() {
+        Card card = deck.takeCard();
+        deck.addPlayedCard(card);
+        return card;
+    }
+}
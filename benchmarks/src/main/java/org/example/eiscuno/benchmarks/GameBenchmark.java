@@ -0,0 +1,103 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.machine.GreedyStrategy;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole headless games between two greedy players, on the live game and on immutable states.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+    private static final int MOVE_LIMIT = 2000;
+
+    private final GreedyStrategy greedyStrategy = new GreedyStrategy();
+    private final GameState[] dealtStates = new GameState[1024];
+    private long seed;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < dealtStates.length; i++) {
+            dealtStates[i] = GameState.newGame(i);
+        }
+    }
+
+    /**
+     * Plays a game with {@link GameUno}, each player playing its first playable card or drawing one.
+     *
+     * @return the number of moves of the game
+     */
+    @Benchmark
+    public int gameUno() {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), new Table());
+        gameUno.startGame();
+        IPlayer player = humanPlayer;
+        int moves = 0;
+        while (!gameUno.isGameOver() && moves < MOVE_LIMIT) {
+            Card card = gameUno.findPlayableCard(player);
+            boolean keepsTurn = card != null && gameUno.playCard(player, card);
+            if (card == null) {
+                gameUno.eatCard(player, 1); // Draws nothing once every card is in a hand or on the table
+            }
+            if (!keepsTurn) {
+                player = player == humanPlayer ? machinePlayer : humanPlayer;
+            }
+            moves++;
+        }
+        return moves;
+    }
+
+    /**
+     * Plays a game on {@link GameState}, with the same players.
+     *
+     * @return the final state
+     */
+    @Benchmark
+    public GameState gameState() {
+        GameState state = GameState.newGame(seed++);
+        while (!state.isOver() && state.getMoveCount() < MOVE_LIMIT) {
+            state = state.apply(greedyStrategy.chooseMove(state, 0));
+        }
+        return state;
+    }
+
+    /**
+     * Applies a single move to a state, the unit of work of the searches.
+     *
+     * @return the state after the move
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public GameState applyMove() {
+        GameState state = dealtStates[next++ & dealtStates.length - 1];
+        Move move = greedyStrategy.chooseMove(state, 0);
+        return state.apply(move);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.machine.GreedyStrategy;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the machine player chooses its move, as done by {@code ThreadPlayMachine.putCardOnTheTable}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MachineBenchmark {
+    private GameUno gameUno;
+    private BitsetPlayer machinePlayer;
+    private GameState state;
+    private final GreedyStrategy greedyStrategy = new GreedyStrategy();
+
+    @Setup
+    public void setUp() {
+        machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        gameUno = new GameUno(new Player("HUMAN_PLAYER"), machinePlayer, new Deck(), new Table());
+        gameUno.startGame();
+        gameUno.eatCard(machinePlayer, 10);
+        state = gameUno.snapshot(GameState.MACHINE_SEAT, 1);
+    }
+
+    /**
+     * Finds the card to play in the live game, under the game lock.
+     */
+    @Benchmark
+    public Card findPlayableCard() {
+        return gameUno.findPlayableCard(machinePlayer);
+    }
+
+    /**
+     * Takes the snapshot handed to the machine strategies.
+     */
+    @Benchmark
+    public GameState snapshot() {
+        return gameUno.snapshot(GameState.MACHINE_SEAT, 1);
+    }
+
+    /**
+     * Chooses the move of the greedy strategy on a snapshot.
+     */
+    @Benchmark
+    public Move greedyChooseMove() {
+        return greedyStrategy.chooseMove(state, 0);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rule checks of {@link GameUno}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+    private GameUno gameUno;
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private Deck deck;
+    private Card[] cards;
+    private Card skipCard;
+    private Card plusTwoCard;
+
+    @Setup
+    public void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        deck = new Deck();
+        gameUno = new GameUno(humanPlayer, machinePlayer, deck, new Table());
+        gameUno.startGame();
+
+        Deck source = new Deck();
+        cards = new Card[Card.CODE_COUNT];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = source.takeCard();
+        }
+        skipCard = new Card(EISCUnoEnum.SKIP_RED, CardRank.SKIP, CardColor.RED);
+        plusTwoCard = new Card(EISCUnoEnum.TWO_WILD_DRAW_RED, CardRank.TWO_WILD_DRAW, CardColor.RED);
+    }
+
+    /**
+     * Checks every pair of cards against each other.
+     */
+    @Benchmark
+    @OperationsPerInvocation(Card.CODE_COUNT * Card.CODE_COUNT)
+    public void isCardPlayable(Blackhole blackhole) {
+        for (Card card : cards) {
+            for (Card top : cards) {
+                blackhole.consume(gameUno.isCardPlayable(card, top));
+            }
+        }
+    }
+
+    /**
+     * Handles a SKIP, which only keeps the turn.
+     */
+    @Benchmark
+    public boolean handleSpecialCardsSkip() {
+        return gameUno.handleSpecialCards(skipCard, humanPlayer);
+    }
+
+    /**
+     * Handles a +2, then puts the two drawn cards back on the played pile so the hands do not grow.
+     */
+    @Benchmark
+    public boolean handleSpecialCardsDrawTwo() {
+        boolean keepsTurn = gameUno.handleSpecialCards(plusTwoCard, humanPlayer);
+        for (int i = 0; i < 2; i++) {
+            Card card = machinePlayer.getCard(machinePlayer.getHandSize() - 1);
+            machinePlayer.removeCard(card);
+            deck.addPlayedCard(card);
+        }
+        return keepsTurn;
+    }
+}
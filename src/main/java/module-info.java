@@ -2,11 +2,13 @@ module org.example.eiscuno {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires java.management;
 
 
     opens org.example.eiscuno to javafx.fxml;
     opens org.example.eiscuno.controller to javafx.fxml;
     exports org.example.eiscuno;
+    exports org.example.eiscuno.metrics;
     exports org.example.eiscuno.model.game to javafx.graphics;
 
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.example.eiscuno;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import org.example.eiscuno.view.GameUnoStage;
+import org.example.eiscuno.view.ImageCache;
 
 import java.io.IOException;
 
@@ -28,6 +29,7 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
+        ImageCache.getInstance().preloadAsync(); // Decode the card images while the stage is built
         GameUnoStage.getInstance();
     }
 }
\ No newline at end of file
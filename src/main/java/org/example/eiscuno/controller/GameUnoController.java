@@ -8,24 +8,68 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
+import org.example.eiscuno.log.GameLogger;
+import org.example.eiscuno.metrics.GameMetrics;
+import org.example.eiscuno.metrics.MeteredExecutor;
+import org.example.eiscuno.metrics.MetricsRegistry;
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.DeckComposition;
+import org.example.eiscuno.model.game.GameState;
 import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.game.IGameEndObserver;
+import org.example.eiscuno.model.game.ITurnObserver;
+import org.example.eiscuno.model.game.TurnPhase;
+import org.example.eiscuno.model.game.TurnState;
+import org.example.eiscuno.model.journal.GameJournal;
+import org.example.eiscuno.model.machine.GameScheduler;
 import org.example.eiscuno.model.machine.IMachineObserver;
+import org.example.eiscuno.model.machine.MachineDelays;
+import org.example.eiscuno.model.machine.MachineStrategy;
 import org.example.eiscuno.model.machine.ThreadPlayMachine;
 import org.example.eiscuno.model.machine.ThreadSingUNOMachine;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.save.GameSnapshot;
+import org.example.eiscuno.model.save.GameSnapshotCodec;
 import org.example.eiscuno.model.table.Table;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.view.CardViewRegistry;
+import org.example.eiscuno.view.HandView;
+import org.example.eiscuno.view.ImageCache;
+import org.example.eiscuno.view.UiUpdateDispatcher;
+import org.example.eiscuno.view.UiUpdateDispatcher.Region;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controller for the GameUno application.
  * Manages the interactions between the user interface and the game logic.
  */
-public class GameUnoController implements IMachineObserver, IGameEndObserver {
+public class GameUnoController implements IMachineObserver, IGameEndObserver, ITurnObserver {
+    private static final GameLogger LOG = GameLogger.getLogger(GameUnoController.class);
+    /** The system property naming the machine strategy: "greedy" (the default) or "mcts". */
+    private static final String STRATEGY_PROPERTY = "eiscuno.machine.strategy";
+    /** The system property fixing the seed of the game, to replay it exactly. */
+    private static final String SEED_PROPERTY = "eiscuno.seed";
+    /** The system property naming the deck composition, in any case: EISC (the default) or OFFICIAL. */
+    private static final String DECK_PROPERTY = "eiscuno.deck";
+    /** The system property naming the file the metrics are written to on exit, in the Prometheus text format. */
+    private static final String METRICS_FILE_PROPERTY = "eiscuno.metrics.file";
+    /** The system property naming the directory the game journals are written to, one file per game. */
+    private static final String JOURNAL_DIR_PROPERTY = "eiscuno.journal.dir";
+    /** The system property naming the file the game in progress is saved to and resumed from, if any. */
+    private static final String SAVE_FILE_PROPERTY = "eiscuno.save.file";
 
     @FXML
     private GridPane gridPaneCardsMachine;
@@ -51,14 +95,30 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
     private Button attackUnoButton;
 
     private Player humanPlayer;
-    private Player machinePlayer;
+    private IPlayer machinePlayer;
     private Deck deck;
     private Table table;
     private GameUno gameUno;
     private int posInitCardToShow;
+    private final CardViewRegistry cardViews = new CardViewRegistry();
+    private HandView humanHandView;
+    private HandView machineHandView;
+    private final Executor fxExecutor = new MeteredExecutor(Platform::runLater, GameMetrics.FX_QUEUE_DEPTH);
+    private final UiUpdateDispatcher uiUpdateDispatcher = new UiUpdateDispatcher(fxExecutor);
 
+    private GameScheduler gameScheduler;
     private ThreadSingUNOMachine threadSingUNOMachine;
     private ThreadPlayMachine threadPlayMachine;
+    private ScheduledFuture<?> attackUnoWindow;
+    private SplittableRandom uiRandom;
+    private GameJournal gameJournal;
+    private Path saveFile;
+    private GameSnapshot resumedSnapshot;
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "GameUno-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private volatile boolean humanPlayerCanSingUNO = true;
     private volatile boolean machineCanSingUNO = true;
@@ -69,19 +129,29 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      */
     @FXML
     public void initialize() {
+        GameMetrics.registerMBean();
         initVariables();
-        this.gameUno.startGame();
+        if (resumedSnapshot != null) {
+            this.gameUno.resumeGame(resumedSnapshot);
+            humanPlayerCanSingUNO = resumedSnapshot.isHumanCanSingUno();
+            machineCanSingUNO = resumedSnapshot.isMachineCanSingUno();
+        } else {
+            this.gameUno.startGame();
+        }
         this.gameUno.addGameEndObserver(this); // Add game end observer
+        this.gameUno.addTurnObserver(this);
+        uiUpdateDispatcher.markDirty(Region.BUTTONS); // Show whose turn the game starts with
         updateTableImageView();
         printCardsHumanPlayer();
         printCardsMachinePlayer(); // Initialize machine player's cards
 
-        threadSingUNOMachine = new ThreadSingUNOMachine(this.humanPlayer.getCardsPlayer(), this::machineCallsUNO);
-        Thread t = new Thread(threadSingUNOMachine, "ThreadSingUNO");
-        t.start();
-        threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this.gameUno, this::disablePlayerCards, this::enablePlayerCards);
-        threadPlayMachine.attach(this); // Subscribe to thread notifications
-        threadPlayMachine.start();
+        threadSingUNOMachine = new ThreadSingUNOMachine(this::machineCallsUNO, this.gameScheduler, this.gameUno.splitRandom());
+        this.humanPlayer.addHandObserver(threadSingUNOMachine); // Schedule the machine's UNO call when one card is left
+        this.gameUno.addGameEndObserver(threadSingUNOMachine);
+        MachineStrategy strategy = MachineStrategy.forName(System.getProperty(STRATEGY_PROPERTY, "greedy"));
+        threadPlayMachine = new ThreadPlayMachine(this.machinePlayer, this.gameUno, this::disablePlayerCards, this::enablePlayerCards, this.gameScheduler, strategy);
+        threadPlayMachine.attach(this); // Subscribe to machine notifications
+        threadPlayMachine.onTurnChange(gameUno.getTurnState()); // The game may have been saved during the machine's turn
 
         // Add images to buttons
         addImages();
@@ -92,11 +162,36 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      */
     private void initVariables() {
         this.humanPlayer = new Player("HUMAN_PLAYER");
-        this.machinePlayer = new Player("MACHINE_PLAYER");
-        this.deck = new Deck();
+        this.machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        String saveFileName = System.getProperty(SAVE_FILE_PROPERTY);
+        this.saveFile = saveFileName == null ? null : Path.of(saveFileName);
+        this.resumedSnapshot = loadSnapshot();
+        if (resumedSnapshot != null && System.getProperty(SEED_PROPERTY) != null) {
+            LOG.info("Se ignora la semilla " + System.getProperty(SEED_PROPERTY) + ": la partida guardada trae la suya.");
+        }
+        long seed = resumedSnapshot != null ? resumedSnapshot.getSeed() : Long.getLong(SEED_PROPERTY, System.nanoTime());
+        LOG.info("Semilla de la partida: " + seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        if (resumedSnapshot != null) {
+            this.deck = new Deck(resumedSnapshot.getDeck(), resumedSnapshot.getDiscard(), random.split());
+        } else {
+            this.deck = new Deck(DeckComposition.forName(System.getProperty(DECK_PROPERTY, "EISC")), 1, random.split());
+        }
         this.table = new Table();
-        this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table);
+        this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table, fxExecutor, random);
+        this.uiRandom = this.gameUno.splitRandom();
+        if (resumedSnapshot == null) {
+            openJournal(seed); // A journal starts with the deal
+        }
+        this.gameScheduler = new GameScheduler(MachineDelays.DEFAULT);
+        this.gameUno.addGameEndObserver(this.gameScheduler); // Cancel every timer when the game ends
         this.posInitCardToShow = 0;
+        this.humanHandView = new HandView(gridPaneCardsPlayer, 4, cardViews, this::onHumanCardClicked);
+        this.machineHandView = new HandView(gridPaneCardsMachine, 4, cardViews, null);
+        uiUpdateDispatcher.register(Region.TABLE, this::updateTableImageView);
+        uiUpdateDispatcher.register(Region.HUMAN_HAND, this::printCardsHumanPlayer);
+        uiUpdateDispatcher.register(Region.MACHINE_HAND, this::printCardsMachinePlayer);
+        uiUpdateDispatcher.register(Region.BUTTONS, this::updatePlayerControls);
         takeCardButton.setDisable(false); // Enable the button at the start of the game
         passTurnButton.setDisable(true);
         unoButton.setDisable(true);
@@ -108,31 +203,31 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      */
     private void addImages() {
         // Create ImageView for takeCardButton
-        ImageView takeCardImageView = new ImageView(new Image(getClass().getResource(EISCUnoEnum.DECK_OF_CARDS.getFilePath()).toString()));
+        ImageView takeCardImageView = new ImageView(ImageCache.getInstance().getImage(EISCUnoEnum.DECK_OF_CARDS));
         takeCardImageView.setFitWidth(100); // Set the desired width
         takeCardImageView.setFitHeight(110); // Set the desired height
         takeCardButton.setGraphic(takeCardImageView);
 
         // Create ImageView for unoButton
-        ImageView unoImageView = new ImageView(new Image(getClass().getResource(EISCUnoEnum.BUTTON_UNO.getFilePath()).toString()));
+        ImageView unoImageView = new ImageView(ImageCache.getInstance().getImage(EISCUnoEnum.BUTTON_UNO));
         unoImageView.setFitWidth(50); // Set the desired width
         unoImageView.setFitHeight(50); // Set the desired height
         unoButton.setGraphic(unoImageView);
 
         // Create ImageView for attackUnoButton
-        ImageView attackUnoImageView = new ImageView(new Image(getClass().getResource(EISCUnoEnum.BUTTON_UNO.getFilePath()).toString()));
+        ImageView attackUnoImageView = new ImageView(ImageCache.getInstance().getImage(EISCUnoEnum.BUTTON_UNO));
         attackUnoImageView.setFitWidth(50); // Set the desired width
         attackUnoImageView.setFitHeight(50); // Set the desired height
         attackUnoButton.setGraphic(attackUnoImageView);
 
         // Create ImageView for exitButton
-        ImageView exitImageView = new ImageView(new Image(getClass().getResource(EISCUnoEnum.EXIT.getFilePath()).toString()));
+        ImageView exitImageView = new ImageView(ImageCache.getInstance().getImage(EISCUnoEnum.EXIT));
         exitImageView.setFitWidth(70); // Set the desired width
         exitImageView.setFitHeight(40); // Set the desired height
         exitButton.setGraphic(exitImageView);
 
         // Load the background image
-        Image backgroundImage = new Image(getClass().getResource(EISCUnoEnum.BACKGROUND_UNO.getFilePath()).toString());
+        Image backgroundImage = ImageCache.getInstance().getImage(EISCUnoEnum.BACKGROUND_UNO);
 
         // Create a BackgroundImage
         BackgroundImage background = new BackgroundImage(backgroundImage,
@@ -145,7 +240,7 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
         mainScene.setBackground(new Background(background));
 
         // Load the icon image
-        Image iconImage = new Image(getClass().getResource(EISCUnoEnum.UNO.getFilePath()).toString());
+        Image iconImage = ImageCache.getInstance().getImage(EISCUnoEnum.UNO);
 
         // Create an ImageView and set the size if necessary
         ImageView iconImageView = new ImageView(iconImage);
@@ -157,38 +252,37 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
     }
 
     /**
-     * Prints the human player's cards to the grid pane.
+     * Prints the human player's cards to the grid pane, updating only the cells whose card changed.
      */
     private void printCardsHumanPlayer() {
-        this.gridPaneCardsPlayer.getChildren().clear();
-        Card[] currentVisibleCardsHumanPlayer = this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
-
-        for (int i = 0; i < currentVisibleCardsHumanPlayer.length; i++) {
-            Card card = currentVisibleCardsHumanPlayer[i];
-            ImageView cardImageView = card.getCard();
-
-            cardImageView.setOnMouseClicked((MouseEvent event) -> {
-                Card topCard = table.getCurrentCardOnTheTable();
-                if (gameUno.isCardPlayable(card, topCard)) {
-                    gameUno.playCard(card);
-                    if (!gameUno.handleSpecialCards(card, humanPlayer)) {
-                        threadPlayMachine.setHasPlayerPlayed(true);
-                    }
-                    tableImageView.setImage(card.getImage());
-                    humanPlayer.removeCard(findPosCardsHumanPlayer(card));
-                    printCardsHumanPlayer();
-                    printCardsMachinePlayer();
-                    if (humanPlayer.getCardsPlayer().size() == 1) {
-                        unoButton.setDisable(false);
-                        humanPlayerCanSingUNO = true;
-                    }
-                } else {
-                    // Mostrar un mensaje o alerta indicando que la carta no es válida
-                    System.out.println("Carta no válida. Debes jugar una carta del mismo color o número.");
-                }
-            });
+        int maxPosInitCardToShow = Math.max(0, gameUno.getHandSize(this.humanPlayer) - 4);
+        if (this.posInitCardToShow > maxPosInitCardToShow) {
+            this.posInitCardToShow = maxPosInitCardToShow;
+        }
+        humanHandView.showCards(this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow));
+    }
 
-            this.gridPaneCardsPlayer.add(cardImageView, i, 0);
+    /**
+     * Plays the card clicked by the human player, if it can be played on the table.
+     *
+     * @param card the clicked card
+     */
+    private void onHumanCardClicked(Card card) {
+        if (gameUno.isCardPlayable(card, gameUno.getTopCard())) {
+            try {
+                gameUno.playTurn(humanPlayer, card); // Hands the turn to the machine unless the card keeps it
+            } catch (IllegalStateException e) {
+                LOG.info("No es tu turno.");
+                return;
+            }
+            uiUpdateDispatcher.markDirty(Region.TABLE, Region.HUMAN_HAND, Region.MACHINE_HAND);
+            if (gameUno.getHandSize(humanPlayer) == 1) {
+                unoButton.setDisable(false);
+                humanPlayerCanSingUNO = true;
+            }
+        } else {
+            // Mostrar un mensaje o alerta indicando que la carta no es válida
+            LOG.info("Carta no válida. Debes jugar una carta del mismo color o número.");
         }
     }
 
@@ -196,84 +290,58 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      * Prints the machine player's cards to the grid pane.
      */
     public void printCardsMachinePlayer() {
-        gridPaneCardsMachine.getChildren().clear();
-        Image backCardImage = new Image(getClass().getResource(EISCUnoEnum.CARD_UNO.getFilePath()).toString());
+        machineHandView.showCardBacks(Math.min(4, gameUno.getHandSize(machinePlayer)),
+                ImageCache.getInstance().getImage(EISCUnoEnum.CARD_UNO));
 
-        for (int i = 0; i < machinePlayer.getCardsPlayer().size() && i < 4; i++) {
-            ImageView cardImageView = new ImageView(backCardImage);
-            cardImageView.setFitHeight(90);
-            cardImageView.setFitWidth(70);
-            gridPaneCardsMachine.add(cardImageView, i, 0);
-
-            cardImageView.setUserData(machinePlayer.getCardsPlayer().get(i));
-        }
-        if (machinePlayer.getCardsPlayer().size() == 1) {
+        if (gameUno.getHandSize(machinePlayer) == 1) {
             attackUnoButton.setDisable(false);
-            new Thread(() -> {
-                try {
-                    Thread.sleep(2000 + (long) (Math.random() * 3000));
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-                Platform.runLater(() -> {
+            if (attackUnoWindow == null || attackUnoWindow.isDone()) {
+                // Give the human a limited time to call UNO on the machine
+                attackUnoWindow = gameScheduler.schedule(() -> Platform.runLater(() -> {
                     machineCanSingUNO = true;
                     attackUnoButton.setDisable(true);
-                });
-            }).start();
+                }), gameScheduler.getDelays().nextAttackWindowDelay(uiRandom));
+            }
         } else {
             attackUnoButton.setDisable(true);
         }
     }
 
-    /**
-     * Finds the position of a card in the human player's hand.
-     *
-     * @param card the card to find
-     * @return the position of the card, or -1 if not found
-     */
-    private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
-            if (this.humanPlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     @FXML
     void onHandleBack(ActionEvent event) {
         if (this.posInitCardToShow > 0) {
             this.posInitCardToShow--;
-            printCardsHumanPlayer();
+            uiUpdateDispatcher.markDirty(Region.HUMAN_HAND);
         }
     }
 
     @FXML
     void onHandleNext(ActionEvent event) {
-        if (this.posInitCardToShow < this.humanPlayer.getCardsPlayer().size() - 4) {
+        if (this.posInitCardToShow < gameUno.getHandSize(this.humanPlayer) - 4) {
             this.posInitCardToShow++;
-            printCardsHumanPlayer();
+            uiUpdateDispatcher.markDirty(Region.HUMAN_HAND);
         }
     }
 
     @FXML
     void onHandleTakeCard(ActionEvent event) {
-        // Implement logic to take a card here
-        gameUno.eatCard(humanPlayer, 1);
-        printCardsHumanPlayer();
-        takeCardButton.setDisable(true); // Disable the button after taking a card
-        passTurnButton.setDisable(false);
+        try {
+            gameUno.drawTurn(humanPlayer); // The turn state enables the pass button
+        } catch (IllegalStateException e) {
+            LOG.info("No puedes tomar una carta ahora.");
+        }
+        uiUpdateDispatcher.markDirty(Region.HUMAN_HAND);
     }
 
     @FXML
     void onHandleUno(ActionEvent event) {
         // Implement logic to handle Uno event here
-        if (humanPlayer.getCardsPlayer().size() == 1 && humanPlayerCanSingUNO) {
+        if (gameUno.getHandSize(humanPlayer) == 1 && humanPlayerCanSingUNO) {
             humanPlayerCanSingUNO = false;
             unoButton.setDisable(true);
         } else {
             unoButton.setDisable(true);
-            printCardsHumanPlayer();
+            uiUpdateDispatcher.markDirty(Region.HUMAN_HAND);
         }
     }
 
@@ -284,14 +352,17 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
 
     @FXML
     void onHandlePassTurn(ActionEvent event) {
-        threadPlayMachine.setHasPlayerPlayed(true); // Pass the turn to the machine
-        takeCardButton.setDisable(true); // Disable the take card button
-        passTurnButton.setDisable(true); // Disable the pass turn button
+        try {
+            gameUno.passTurn(humanPlayer); // Hands the turn to the machine
+        } catch (IllegalStateException e) {
+            LOG.info("No puedes pasar el turno ahora.");
+        }
     }
 
     @FXML
     void onHandleExit(ActionEvent event) {
-        // Stop the machine and sing UNO threads
+        // Stop the machine and sing UNO tasks
+        gameScheduler.shutdown();
         if (threadSingUNOMachine != null && threadSingUNOMachine.isRunning()) {
             threadSingUNOMachine.stopRunning();
         }
@@ -299,24 +370,141 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
             threadPlayMachine.stopRunning();
         }
 
+        checkpoint();
+        checkpointExecutor.shutdown();
+        try {
+            checkpointExecutor.awaitTermination(2, TimeUnit.SECONDS); // Let the last checkpoint reach the disk
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dumpMetrics();
+        closeJournal();
+
         // Close the current window
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Loads the game saved in the file named by the {@code eiscuno.save.file} property, if any.
+     *
+     * @return The snapshot of the saved game, or null to start a new game.
+     */
+    private GameSnapshot loadSnapshot() {
+        if (saveFile == null || !Files.exists(saveFile)) {
+            return null;
+        }
+        try {
+            GameSnapshot snapshot = GameSnapshotCodec.load(saveFile);
+            LOG.info("Reanudando la partida guardada en " + saveFile);
+            return snapshot;
+        } catch (IOException e) {
+            LOG.info("No se pudo reanudar la partida guardada: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the game in progress, if a save file is set. The snapshot is taken at once and written on a
+     * background thread, in order, so a checkpoint after every turn does not hold up the UI. A finished game
+     * is not saved: the write is queued under the game lock, so it cannot land after the game end deletes the file.
+     */
+    private void checkpoint() {
+        if (saveFile == null) {
+            return;
+        }
+        synchronized (gameUno) {
+            if (!gameUno.getTurnState().getPhase().isInPlay()) {
+                return;
+            }
+            GameSnapshot snapshot = gameUno.saveSnapshot(humanPlayerCanSingUNO, machineCanSingUNO, uiRandom.nextLong());
+            checkpointExecutor.execute(() -> {
+                try {
+                    Files.createDirectories(saveFile.toAbsolutePath().getParent());
+                    GameSnapshotCodec.save(snapshot, saveFile);
+                } catch (IOException e) {
+                    LOG.info("No se pudo guardar la partida: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Opens the journal of the game in the directory named by the {@code eiscuno.journal.dir} property, if any.
+     * The file is named after the seed, so a disputed game can be both replayed from its journal and dealt again.
+     *
+     * @param seed The seed of the game.
+     */
+    private void openJournal(long seed) {
+        String journalDir = System.getProperty(JOURNAL_DIR_PROPERTY);
+        if (journalDir == null) {
+            return;
+        }
+        try {
+            gameJournal = GameJournal.create(Path.of(journalDir, "partida-" + seed + ".journal"), gameUno.getGameId());
+            gameUno.setJournal(gameJournal);
+        } catch (IOException e) {
+            LOG.info("No se pudo crear el diario de la partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the journal of the game, if any.
+     */
+    private void closeJournal() {
+        if (gameJournal == null) {
+            return;
+        }
+        synchronized (gameUno) { // The game appends to the journal while holding its lock
+            try {
+                gameJournal.close();
+            } catch (IOException e) {
+                LOG.info("No se pudo cerrar el diario de la partida: " + e.getMessage());
+            }
+            gameUno.setJournal(null);
+        }
+    }
+
+    /**
+     * Writes the metrics of the process to the file named by the {@code eiscuno.metrics.file} property, if any.
+     */
+    private void dumpMetrics() {
+        String metricsFile = System.getProperty(METRICS_FILE_PROPERTY);
+        if (metricsFile == null) {
+            return;
+        }
+        try {
+            MetricsRegistry.getInstance().dump(Path.of(metricsFile));
+        } catch (IOException e) {
+            LOG.info("No se pudieron guardar las métricas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Schedules a redraw of the table and both hands.
+     * Notifications received before the redraw runs are coalesced into it.
+     */
     @Override
     public void updateMachineView() {
-        Platform.runLater(this::printCardsMachinePlayer);
-        Platform.runLater(this::printCardsHumanPlayer);
+        uiUpdateDispatcher.markDirty(Region.TABLE, Region.MACHINE_HAND, Region.HUMAN_HAND);
+    }
+
+    /**
+     * Gets the dispatcher batching the redraws of the game screen, e.g. to read its metrics.
+     *
+     * @return the UI update dispatcher
+     */
+    public UiUpdateDispatcher getUiUpdateDispatcher() {
+        return uiUpdateDispatcher;
     }
 
     /**
      * Updates the table image view with the top card on the table.
      */
     private void updateTableImageView() {
-        Card topCard = table.getCurrentCardOnTheTable();
+        Card topCard = gameUno.getTopCard();
         if (topCard != null) {
-            tableImageView.setImage(topCard.getImage());
+            tableImageView.setImage(cardViews.getCardImage(topCard));
         }
     }
 
@@ -324,22 +512,38 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      * Disables the player's cards.
      */
     private void disablePlayerCards() {
-        for (Card card : humanPlayer.getCardsPlayer()) {
-            card.getCard().setDisable(true);
-        }
-        takeCardButton.setDisable(true); // Disable the take card button
-        passTurnButton.setDisable(true);
+        uiUpdateDispatcher.markDirty(Region.BUTTONS);
     }
 
     /**
      * Enables the player's cards.
      */
     private void enablePlayerCards() {
-        for (Card card : humanPlayer.getCardsPlayer()) {
-            card.getCard().setDisable(false);
-        }
-        takeCardButton.setDisable(false); // Enable the take card button
-        passTurnButton.setDisable(false);
+        uiUpdateDispatcher.markDirty(Region.BUTTONS);
+    }
+
+    /**
+     * Refreshes the controls and saves the game whenever the turn changes.
+     * Called under the game lock, so the work is handed to the JavaFX thread.
+     *
+     * @param state the new turn state
+     */
+    @Override
+    public void onTurnChange(TurnState state) {
+        uiUpdateDispatcher.markDirty(Region.BUTTONS);
+        fxExecutor.execute(this::checkpoint);
+    }
+
+    /**
+     * Enables or disables the player's cards and buttons depending on the turn state:
+     * the human plays or takes a card while awaiting a move, and passes after taking one.
+     */
+    private void updatePlayerControls() {
+        TurnState state = gameUno.getTurnState();
+        boolean humanTurn = state.isTurnOf(GameState.HUMAN_SEAT);
+        humanHandView.setCardsDisabled(!humanTurn);
+        takeCardButton.setDisable(!humanTurn || state.getPhase() != TurnPhase.AWAITING_MOVE);
+        passTurnButton.setDisable(!humanTurn || state.getPhase() != TurnPhase.DREW_CARD);
     }
 
     /**
@@ -347,9 +551,11 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      */
     private void machineCallsUNO() {
         Platform.runLater(() -> {
-            if (humanPlayer.getCardsPlayer().size() == 1 && humanPlayerCanSingUNO) {
-                gameUno.eatCard(humanPlayer, 1);
-                printCardsHumanPlayer();
+            synchronized (gameUno) {
+                // The game journals the call, so penalties can be audited
+                if (humanPlayerCanSingUNO && gameUno.haveSungOne(GameState.MACHINE_SEAT, GameState.HUMAN_SEAT)) {
+                    uiUpdateDispatcher.markDirty(Region.HUMAN_HAND);
+                }
             }
         });
     }
@@ -358,16 +564,24 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
      * Handles the human player calling UNO.
      */
     private void humanCallsUNO() {
-        Platform.runLater(() -> {
-            if (machinePlayer.getCardsPlayer().size() == 1) {
-                gameUno.eatCard(machinePlayer, 1);
-                printCardsMachinePlayer();
+        synchronized (gameUno) {
+            if (gameUno.haveSungOne(GameState.HUMAN_SEAT, GameState.MACHINE_SEAT)) {
+                uiUpdateDispatcher.markDirty(Region.MACHINE_HAND);
             }
-        });
+        }
     }
 
     @Override
     public void onGameEnd(String winner) {
+        if (saveFile != null) {
+            checkpointExecutor.execute(() -> {
+                try {
+                    Files.deleteIfExists(saveFile); // A finished game is not resumed
+                } catch (IOException e) {
+                    LOG.info("No se pudo borrar la partida guardada: " + e.getMessage());
+                }
+            });
+        }
         Platform.runLater(() -> {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Fin del Juego");
@@ -378,7 +592,7 @@ public class GameUnoController implements IMachineObserver, IGameEndObserver {
             passTurnButton.setDisable(true);
             takeCardButton.setDisable(true);
             attackUnoButton.setDisable(true);
-            disablePlayerCards();
+            updatePlayerControls();
         });
     }
 }
@@ -0,0 +1,119 @@
+package org.example.eiscuno.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands the events of the game log to another appender on a background thread.
+ * Game threads only claim a slot of a fixed ring buffer and store the event in it, so logging never
+ * blocks them on I/O. When the buffer is full the event is dropped and counted instead of waiting.
+ */
+public class AsyncRingBufferAppender implements LogAppender {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LogAppender delegate;
+    private final AtomicReferenceArray<GameEvent> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // Next slot to claim
+    private volatile long head; // Next slot to drain, written by the writer thread only
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new AsyncRingBufferAppender and starts its writer thread.
+     *
+     * @param delegate the appender writing the events, called from the writer thread only
+     * @param capacity the number of events the buffer holds, rounded up to a power of two
+     */
+    public AsyncRingBufferAppender(LogAppender delegate, int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.delegate = delegate;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.writer = new Thread(this::drainLoop, "GameLog-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void append(GameEvent event) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head > mask) {
+                dropped.increment(); // The buffer is full
+                return;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) claimed & mask, event);
+    }
+
+    private void drainLoop() {
+        while (running || head != tail.get()) {
+            if (!drain()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Writes every published event.
+     *
+     * @return true if an event was written, false if there was none
+     */
+    private boolean drain() {
+        long next = head;
+        boolean wrote = false;
+        GameEvent event;
+        while ((event = slots.get((int) next & mask)) != null) {
+            slots.lazySet((int) next & mask, null);
+            head = ++next;
+            delegate.append(event);
+            wrote = true;
+        }
+        if (wrote) {
+            delegate.flush();
+        }
+        return wrote;
+    }
+
+    /**
+     * Waits until every event appended so far has been written.
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        while (head < target && writer.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Writes the remaining events and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Counts the events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
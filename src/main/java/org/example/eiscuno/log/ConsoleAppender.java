@@ -0,0 +1,59 @@
+package org.example.eiscuno.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+
+/**
+ * Writes the events of the game log as lines of text, e.g.
+ * {@code 2024-05-01T10:00:00.123Z DEBUG GameUno game=1 turn=7 player=MACHINE_PLAYER card=+2 RED hand=4 - ...}.
+ */
+public class ConsoleAppender implements LogAppender {
+    private final PrintStream out;
+    private final StringBuilder line = new StringBuilder(160);
+
+    /**
+     * Constructs a new ConsoleAppender writing to the standard output.
+     */
+    public ConsoleAppender() {
+        this(System.out);
+    }
+
+    /**
+     * Constructs a new ConsoleAppender.
+     *
+     * @param out the stream to write to
+     */
+    public ConsoleAppender(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void append(GameEvent event) {
+        line.setLength(0);
+        line.append(Instant.ofEpochMilli(event.getTimeMillis())).append(' ')
+                .append(event.getLevel()).append(' ')
+                .append(event.getLogger());
+        if (event.getGameId() >= 0) {
+            line.append(" game=").append(event.getGameId());
+        }
+        if (event.getTurn() >= 0) {
+            line.append(" turn=").append(event.getTurn());
+        }
+        if (event.getPlayer() != null) {
+            line.append(" player=").append(event.getPlayer());
+        }
+        if (event.getCard() != null) {
+            line.append(" card=").append(event.getCard().getValue()).append(' ').append(event.getCard().getColor());
+        }
+        if (event.getHandSize() >= 0) {
+            line.append(" hand=").append(event.getHandSize());
+        }
+        line.append(" - ").append(event.getMessage());
+        out.println(line);
+    }
+
+    @Override
+    public synchronized void flush() {
+        out.flush();
+    }
+}
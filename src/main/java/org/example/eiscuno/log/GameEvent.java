@@ -0,0 +1,82 @@
+package org.example.eiscuno.log;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * An immutable entry of the game log.
+ * Besides its message, an event carries the structured fields of the game it describes; fields that do
+ * not apply are left at -1 or null. The event is turned into text only by the appender, off the game thread.
+ */
+public final class GameEvent {
+    private final long timeMillis;
+    private final LogLevel level;
+    private final String logger;
+    private final long gameId;
+    private final int turn;
+    private final String player;
+    private final Card card;
+    private final int handSize;
+    private final String message;
+
+    /**
+     * Constructs a new GameEvent.
+     *
+     * @param timeMillis the time of the event, in milliseconds since the epoch
+     * @param level      the level of the event
+     * @param logger     the name of the logger
+     * @param gameId     the identifier of the game, or -1
+     * @param turn       the turn of the game, or -1
+     * @param player     the player concerned, or null
+     * @param card       the card concerned, or null
+     * @param handSize   the number of cards left in the player's hand, or -1
+     * @param message    the message
+     */
+    public GameEvent(long timeMillis, LogLevel level, String logger, long gameId, int turn, String player,
+                     Card card, int handSize, String message) {
+        this.timeMillis = timeMillis;
+        this.level = level;
+        this.logger = logger;
+        this.gameId = gameId;
+        this.turn = turn;
+        this.player = player;
+        this.card = card;
+        this.handSize = handSize;
+        this.message = message;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public String getLogger() {
+        return logger;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    public int getHandSize() {
+        return handSize;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.eiscuno.log;
+
+import org.example.eiscuno.model.card.Card;
+
+import java.util.Locale;
+
+/**
+ * The logging facade of the game.
+ * Loggers check the level before building anything, so a call below the level costs a single field read;
+ * enabled events are handed to the shared appender, by default an {@link AsyncRingBufferAppender}
+ * writing to the console. The level is read from the {@code eiscuno.log.level} system property, in any case,
+ * and defaults to INFO, which leaves the per-move DEBUG events off.
+ */
+public final class GameLogger {
+    private static final String LEVEL_PROPERTY = "eiscuno.log.level";
+    private static final int BUFFER_CAPACITY = 8192;
+
+    private static volatile LogLevel level = parseLevel(System.getProperty(LEVEL_PROPERTY));
+    private static volatile LogAppender appender;
+
+    private final String name;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the logger of a class.
+     *
+     * @param type the class logging
+     * @return the logger named after the class
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return new GameLogger(type.getSimpleName());
+    }
+
+    /**
+     * Sets the level of every logger.
+     *
+     * @param newLevel the lowest level written
+     */
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Reads a level name in any case. An unknown name falls back to INFO with a warning on the console,
+     * since a bad property must not keep the classes that log from loading.
+     *
+     * @param value the name of the level, or null
+     * @return the level, INFO if the name is missing or unknown
+     */
+    static LogLevel parseLevel(String value) {
+        if (value == null) {
+            return LogLevel.INFO;
+        }
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Nivel de registro desconocido en " + LEVEL_PROPERTY + ": '" + value + "'; se usa INFO.");
+            return LogLevel.INFO;
+        }
+    }
+
+    /**
+     * Replaces the appender of every logger, closing the previous one.
+     *
+     * @param newAppender the appender receiving the events
+     */
+    public static synchronized void setAppender(LogAppender newAppender) {
+        LogAppender previous = appender;
+        appender = newAppender;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Gets the appender of every logger, creating the default one on first use.
+     *
+     * @return the appender
+     */
+    public static LogAppender getAppender() {
+        LogAppender current = appender;
+        if (current == null) {
+            synchronized (GameLogger.class) {
+                current = appender;
+                if (current == null) {
+                    AsyncRingBufferAppender asyncAppender = new AsyncRingBufferAppender(new ConsoleAppender(), BUFFER_CAPACITY);
+                    Runtime.getRuntime().addShutdownHook(new Thread(asyncAppender::close, "GameLog-shutdown"));
+                    appender = current = asyncAppender;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Checks if events of a level are written.
+     *
+     * @param eventLevel the level of the event
+     * @return true if the event would be written, false otherwise
+     */
+    public boolean isEnabled(LogLevel eventLevel) {
+        return eventLevel.compareTo(level) >= 0 && level != LogLevel.OFF;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    /**
+     * Logs an event about a move of a game.
+     *
+     * @param eventLevel the level of the event
+     * @param gameId     the identifier of the game, or -1
+     * @param turn       the turn of the game, or -1
+     * @param player     the player concerned, or null
+     * @param card       the card concerned, or null
+     * @param handSize   the number of cards left in the player's hand, or -1
+     * @param message    the message
+     */
+    public void log(LogLevel eventLevel, long gameId, int turn, String player, Card card, int handSize, String message) {
+        if (isEnabled(eventLevel)) {
+            getAppender().append(new GameEvent(System.currentTimeMillis(), eventLevel, name, gameId, turn, player,
+                    card, handSize, message));
+        }
+    }
+
+    /**
+     * Logs a DEBUG event about a move of a game.
+     *
+     * @param gameId   the identifier of the game
+     * @param turn     the turn of the game
+     * @param player   the player concerned
+     * @param card     the card concerned, or null
+     * @param handSize the number of cards left in the player's hand, or -1
+     * @param message  the message
+     */
+    public void debug(long gameId, int turn, String player, Card card, int handSize, String message) {
+        log(LogLevel.DEBUG, gameId, turn, player, card, handSize, message);
+    }
+
+    /**
+     * Logs an INFO event not tied to a move.
+     *
+     * @param message the message
+     */
+    public void info(String message) {
+        log(LogLevel.INFO, -1, -1, null, null, -1, message);
+    }
+}
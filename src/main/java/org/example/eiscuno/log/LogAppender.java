@@ -0,0 +1,27 @@
+package org.example.eiscuno.log;
+
+/**
+ * Receives the events of the game log.
+ */
+public interface LogAppender {
+
+    /**
+     * Writes an event.
+     *
+     * @param event the event to write
+     */
+    void append(GameEvent event);
+
+    /**
+     * Writes out the events kept in buffers, if any.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flushes the appender and releases its resources.
+     */
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.eiscuno.log;
+
+/**
+ * The levels of the game log, from the most detailed to the most severe.
+ */
+public enum LogLevel {
+    /** Every move of the game: cards played, drawn and penalties. */
+    DEBUG,
+    /** Events worth seeing while playing, such as the seed of the game. */
+    INFO,
+    /** Unexpected situations the game recovers from. */
+    WARN,
+    /** Failures. */
+    ERROR,
+    /** Nothing is logged. */
+    OFF
+}
@@ -0,0 +1,42 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that only goes up, e.g. the cards drawn since the process started.
+ * Increments from many threads do not contend with each other.
+ */
+public class Counter extends Metric {
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name, String help) {
+        super(name, help);
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     *
+     * @param amount the amount to add, not negative
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(get()).append('\n');
+    }
+
+    @Override
+    String getType() {
+        return "counter";
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.eiscuno.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+/**
+ * The metrics of the game, shared by every game of the process.
+ * The instrumented code updates these fields directly; {@link #registerMBean()} publishes them over JMX.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+
+    /** The time between two cards played in the same game. */
+    public static final Histogram TURN_LATENCY = REGISTRY.histogram("eiscuno_turn_latency_nanoseconds",
+            "Time between two cards played in the same game.");
+    /** The time a machine strategy takes to choose a move when the move is due, without think time. */
+    public static final Histogram MACHINE_DECISION = REGISTRY.histogram("eiscuno_machine_decision_nanoseconds",
+            "Time a machine strategy takes to choose a move when the move is due.");
+    /** The time a thinking machine strategy searches during the move delay, bounded by the configured delay. */
+    public static final Histogram MACHINE_THINK = REGISTRY.histogram("eiscuno_machine_think_nanoseconds",
+            "Time a machine strategy spends searching during the move delay.");
+    /** The times the played cards were shuffled back into an empty draw pile. */
+    public static final Counter DECK_RECYCLES = REGISTRY.counter("eiscuno_deck_recycles_total",
+            "Times the played cards were shuffled back into the deck.");
+    /** The cards taken from the draw pile. */
+    public static final Counter CARDS_DRAWN = REGISTRY.counter("eiscuno_cards_drawn_total",
+            "Cards taken from the deck.");
+    /** The tasks handed to the UI thread and not run yet. */
+    public static final Gauge FX_QUEUE_DEPTH = REGISTRY.gauge("eiscuno_fx_queue_depth",
+            "Tasks queued on the JavaFX thread and not run yet.");
+    /** The time a UI update pass takes on the UI thread. */
+    public static final Histogram RENDER_TIME = REGISTRY.histogram("eiscuno_render_nanoseconds",
+            "Time an update pass of the game screen takes on the JavaFX thread.");
+
+    private static final String OBJECT_NAME = "org.example.eiscuno:type=GameMetrics";
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Registers the game metrics on the platform MBean server. Registering again does nothing.
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new GameMetrics(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered by an earlier game
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the game metrics.", e);
+        }
+    }
+
+    @Override
+    public long getTurnCount() {
+        return TURN_LATENCY.getCount();
+    }
+
+    @Override
+    public long getTurnLatencyMedian() {
+        return TURN_LATENCY.getValueAtQuantile(0.5);
+    }
+
+    @Override
+    public long getTurnLatency99thPercentile() {
+        return TURN_LATENCY.getValueAtQuantile(0.99);
+    }
+
+    @Override
+    public long getMachineDecisionCount() {
+        return MACHINE_DECISION.getCount();
+    }
+
+    @Override
+    public long getMachineDecisionMedian() {
+        return MACHINE_DECISION.getValueAtQuantile(0.5);
+    }
+
+    @Override
+    public long getMachineDecision99thPercentile() {
+        return MACHINE_DECISION.getValueAtQuantile(0.99);
+    }
+
+    @Override
+    public long getMachineThinkCount() {
+        return MACHINE_THINK.getCount();
+    }
+
+    @Override
+    public long getMachineThinkMedian() {
+        return MACHINE_THINK.getValueAtQuantile(0.5);
+    }
+
+    @Override
+    public long getDeckRecycles() {
+        return DECK_RECYCLES.get();
+    }
+
+    @Override
+    public long getCardsDrawn() {
+        return CARDS_DRAWN.get();
+    }
+
+    @Override
+    public long getFxQueueDepth() {
+        return FX_QUEUE_DEPTH.get();
+    }
+
+    @Override
+    public long getRenderTimeMedian() {
+        return RENDER_TIME.getValueAtQuantile(0.5);
+    }
+
+    @Override
+    public long getRenderTime99thPercentile() {
+        return RENDER_TIME.getValueAtQuantile(0.99);
+    }
+
+    @Override
+    public String getPrometheusText() {
+        return REGISTRY.toPrometheusText();
+    }
+
+    @Override
+    public void dump(String path) {
+        try {
+            REGISTRY.dump(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
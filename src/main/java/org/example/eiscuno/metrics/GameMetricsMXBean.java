@@ -0,0 +1,48 @@
+package org.example.eiscuno.metrics;
+
+/**
+ * The management interface of the game metrics, shown by JConsole or VisualVM under
+ * {@code org.example.eiscuno:type=GameMetrics}. Durations are in nanoseconds.
+ */
+public interface GameMetricsMXBean {
+
+    long getTurnCount();
+
+    long getTurnLatencyMedian();
+
+    long getTurnLatency99thPercentile();
+
+    long getMachineDecisionCount();
+
+    long getMachineDecisionMedian();
+
+    long getMachineDecision99thPercentile();
+
+    long getMachineThinkCount();
+
+    long getMachineThinkMedian();
+
+    long getDeckRecycles();
+
+    long getCardsDrawn();
+
+    long getFxQueueDepth();
+
+    long getRenderTimeMedian();
+
+    long getRenderTime99thPercentile();
+
+    /**
+     * Gets every metric in the Prometheus text format.
+     *
+     * @return the metrics, one sample per line
+     */
+    String getPrometheusText();
+
+    /**
+     * Writes every metric to a file in the Prometheus text format.
+     *
+     * @param path the file to write
+     */
+    void dump(String path);
+}
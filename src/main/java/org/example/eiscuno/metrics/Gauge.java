@@ -0,0 +1,36 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A value that goes up and down, e.g. the tasks waiting on the UI thread.
+ */
+public class Gauge extends Metric {
+    private final LongAdder value = new LongAdder();
+
+    Gauge(String name, String help) {
+        super(name, help);
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void decrement() {
+        value.decrement();
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(get()).append('\n');
+    }
+
+    @Override
+    String getType() {
+        return "gauge";
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of a value, usually a duration in nanoseconds.
+ * As in an HDR histogram, the buckets are linear inside each power of two: values below 64 are kept exactly
+ * and larger ones with 32 buckets per power of two, so any percentile is within about 3% of the true value
+ * while the histogram stays a fixed array of counts. Recording is lock-free and never allocates.
+ */
+public class Histogram extends Metric {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKET_COUNT = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name, String help) {
+        super(name, help);
+    }
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.incrementAndGet(bucketOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        long currentMax = max.get();
+        while (clamped > currentMax && !max.compareAndSet(currentMax, clamped)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Records the time elapsed since a start time.
+     *
+     * @param startNanos the start time, as returned by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the highest value that falls in a bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value below which a fraction of the recorded values fall.
+     *
+     * @param quantile the fraction, between 0 and 1
+     * @return the value, or 0 if nothing was recorded
+     */
+    public long getValueAtQuantile(double quantile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        for (double quantile : QUANTILES) {
+            out.append(getName()).append("{quantile=\"").append(quantile).append("\"} ")
+                    .append(getValueAtQuantile(quantile)).append('\n');
+        }
+        out.append(getName()).append("{quantile=\"1.0\"} ").append(getMax()).append('\n');
+        out.append(getName()).append("_sum ").append(getSum()).append('\n');
+        out.append(getName()).append("_count ").append(getCount()).append('\n');
+    }
+
+    @Override
+    String getType() {
+        return "summary";
+    }
+}
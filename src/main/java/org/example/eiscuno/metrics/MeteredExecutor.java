@@ -0,0 +1,31 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Counts the tasks waiting in another executor, e.g. the {@code Platform::runLater} queue of the UI thread.
+ */
+public class MeteredExecutor implements Executor {
+    private final Executor delegate;
+    private final Gauge queueDepth;
+
+    /**
+     * Constructs a new MeteredExecutor.
+     *
+     * @param delegate   the executor running the tasks
+     * @param queueDepth the gauge of the tasks handed to the delegate and not started yet
+     */
+    public MeteredExecutor(Executor delegate, Gauge queueDepth) {
+        this.delegate = delegate;
+        this.queueDepth = queueDepth;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queueDepth.increment();
+        delegate.execute(() -> {
+            queueDepth.decrement();
+            task.run();
+        });
+    }
+}
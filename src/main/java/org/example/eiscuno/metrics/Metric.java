@@ -0,0 +1,42 @@
+package org.example.eiscuno.metrics;
+
+/**
+ * A named measurement kept by the {@link MetricsRegistry}.
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+
+    /**
+     * Constructs a new Metric.
+     *
+     * @param name the name of the metric, in the Prometheus style, e.g. {@code eiscuno_cards_drawn_total}
+     * @param help a one-line description of the metric
+     */
+    protected Metric(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Writes the current value of the metric in the Prometheus text format, without the HELP and TYPE lines.
+     *
+     * @param out the builder to write to
+     */
+    abstract void writeSamples(StringBuilder out);
+
+    /**
+     * Gets the Prometheus type of the metric.
+     *
+     * @return "counter", "gauge" or "summary"
+     */
+    abstract String getType();
+}
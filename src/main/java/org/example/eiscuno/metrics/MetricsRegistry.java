@@ -0,0 +1,112 @@
+package org.example.eiscuno.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps the metrics of the process by name.
+ * The metrics are created once, usually in static fields, and then updated without any lookup;
+ * the registry is only walked to export them.
+ */
+public class MetricsRegistry {
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * Constructs an empty registry; the process-wide one is {@link #getInstance()}.
+     */
+    public MetricsRegistry() {
+    }
+
+    /**
+     * Gets the registry shared by the whole process.
+     *
+     * @return the shared registry
+     */
+    public static MetricsRegistry getInstance() {
+        return MetricsRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Holder class for the shared instance of MetricsRegistry.
+     */
+    private static class MetricsRegistryHolder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+
+    /**
+     * Gets a counter, creating it if needed.
+     *
+     * @param name the name of the counter, ending in {@code _total}
+     * @param help a one-line description of the counter
+     * @return the counter
+     */
+    public Counter counter(String name, String help) {
+        return register(name, help, Counter.class, Counter::new);
+    }
+
+    /**
+     * Gets a gauge, creating it if needed.
+     *
+     * @param name the name of the gauge
+     * @param help a one-line description of the gauge
+     * @return the gauge
+     */
+    public Gauge gauge(String name, String help) {
+        return register(name, help, Gauge.class, Gauge::new);
+    }
+
+    /**
+     * Gets a histogram, creating it if needed.
+     *
+     * @param name the name of the histogram, ending in the unit, e.g. {@code _nanoseconds}
+     * @param help a one-line description of the histogram
+     * @return the histogram
+     */
+    public Histogram histogram(String name, String help) {
+        return register(name, help, Histogram.class, Histogram::new);
+    }
+
+    private <M extends Metric> M register(String name, String help, Class<M> type,
+                                          BiFunction<String, String, M> factory) {
+        Metric metric = metrics.computeIfAbsent(name, key -> factory.apply(key, help));
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("The metric " + name + " is already a " + metric.getType() + ".");
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format.
+     *
+     * @return the metrics, one sample per line
+     */
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : metrics.values()) {
+            out.append("# HELP ").append(metric.getName()).append(' ').append(metric.getHelp()).append('\n');
+            out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+            metric.writeSamples(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes every metric to a file in the Prometheus text format, e.g. for the textfile collector of
+     * the node exporter. The file is replaced at once, so a reader never sees half of it.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void dump(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.writeString(temporary, toPrometheusText(), StandardCharsets.UTF_8);
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
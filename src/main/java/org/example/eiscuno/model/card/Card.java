@@ -1,68 +1,230 @@
 package org.example.eiscuno.model.card;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 
 /**
  * Represents a card in the Uno game.
+ * A card is a pure model value: it knows its face, rank and color, but nothing about how it is drawn.
+ * The images and views of the cards are kept on the view side, see
+ * {@link org.example.eiscuno.view.CardViewRegistry}.
+ * <p>
+ * Rank and color are also packed into a single byte code from 0 to {@link #CODE_COUNT} - 1:
+ * colored cards use {@code color * 13 + rank}, the wild card is 52 and the +4 card is 53.
+ * Playability between two codes is a single bit lookup in a precomputed 64x64 matrix.
  */
 public class Card {
-    private String url;
-    private String value;
-    private String color;
-    private Image image;
-    private ImageView cardImageView;
+    /**
+     * Number of distinct card codes.
+     */
+    public static final int CODE_COUNT = 4 * CardRank.COLORED_RANKS + 2;
+
+    private static final byte WILD_CODE = 4 * CardRank.COLORED_RANKS;
+    private static final CardRank[] RANK_BY_CODE = new CardRank[CODE_COUNT];
+    private static final CardColor[] COLOR_BY_CODE = new CardColor[CODE_COUNT];
+    // Bit t of PLAYABLE[c] is set when the card with code c can be played on the card with code t.
+    // The rule is symmetric, so the same row is also the mask of every code playable on c.
+    private static final long[] PLAYABLE = new long[64];
+    private static final long[] COLOR_MASKS = new long[CardColor.values().length];
+    private static final long[] RANK_MASKS = new long[CardRank.values().length];
+
+    static {
+        for (CardRank rank : CardRank.values()) {
+            for (CardColor color : CardColor.values()) {
+                if (rank.isWild() != color.isColored()) {
+                    byte code = encode(rank, color);
+                    RANK_BY_CODE[code] = rank;
+                    COLOR_BY_CODE[code] = color;
+                    COLOR_MASKS[color.ordinal()] |= 1L << code;
+                    RANK_MASKS[rank.ordinal()] |= 1L << code;
+                }
+            }
+        }
+        for (int card = 0; card < CODE_COUNT; card++) {
+            for (int top = 0; top < CODE_COUNT; top++) {
+                if (card >= WILD_CODE || top >= WILD_CODE
+                        || COLOR_BY_CODE[card] == COLOR_BY_CODE[top]
+                        || RANK_BY_CODE[card] == RANK_BY_CODE[top]) {
+                    PLAYABLE[card] |= 1L << top;
+                }
+            }
+        }
+    }
+
+    private final EISCUnoEnum type;
+    private final CardRank rank;
+    private final CardColor color;
+    private final byte code;
+
+    /**
+     * Constructs a Card with the specified face, rank and color.
+     *
+     * @param type  the constant identifying the face of the card
+     * @param rank  of the card
+     * @param color of the card
+     * @throws IllegalArgumentException if the rank and color do not form a valid card
+     */
+    public Card(EISCUnoEnum type, CardRank rank, CardColor color) {
+        this.type = type;
+        this.rank = rank;
+        this.color = color;
+        this.code = encode(rank, color);
+    }
+
+    /**
+     * Constructs a Card with the specified face, value and color.
+     *
+     * @param type  the constant identifying the face of the card
+     * @param value of the card, e.g. "7" or "+2"
+     * @param color of the card, e.g. "RED" or "NON_COLOR"
+     */
+    public Card(EISCUnoEnum type, String value, String color) {
+        this(type, CardRank.fromValue(value), CardColor.fromName(color));
+    }
 
     /**
-     * Constructs a Card with the specified image URL and name.
+     * Constructs a Card with the specified image URL, value and color.
      *
-     * @param url the URL of the card image
+     * @param url   the URL of the card image, as returned by {@link EISCUnoEnum#getFilePath()}
      * @param value of the card
+     * @param color of the card
      */
     public Card(String url, String value, String color) {
-        this.url = url;
-        this.value = value;
-        this.color = color;
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
+        this(EISCUnoEnum.fromFilePath(url), value, color);
+    }
+
+    /**
+     * Encodes a rank and a color into a card code.
+     *
+     * @param rank  the rank of the card
+     * @param color the color of the card
+     * @return the code of the card
+     * @throws IllegalArgumentException if wild ranks are colored or colored ranks have no color
+     */
+    public static byte encode(CardRank rank, CardColor color) {
+        if (rank.isWild()) {
+            if (color.isColored()) {
+                throw new IllegalArgumentException("A " + rank + " card has no color");
+            }
+            return (byte) (WILD_CODE + rank.ordinal() - CardRank.COLORED_RANKS);
+        }
+        if (!color.isColored()) {
+            throw new IllegalArgumentException("A " + rank + " card needs a color");
+        }
+        return (byte) (color.ordinal() * CardRank.COLORED_RANKS + rank.ordinal());
+    }
+
+    /**
+     * Gets the rank encoded in a card code.
+     *
+     * @param code the code of the card
+     * @return the rank of the card
+     */
+    public static CardRank rankOf(int code) {
+        return RANK_BY_CODE[code];
+    }
+
+    /**
+     * Gets the color encoded in a card code.
+     *
+     * @param code the code of the card
+     * @return the color of the card
+     */
+    public static CardColor colorOf(int code) {
+        return COLOR_BY_CODE[code];
     }
 
     /**
-     * Creates and configures the ImageView for the card.
+     * Checks if the card with the given code can be played on the top card with the given code.
      *
-     * @return the configured ImageView of the card
+     * @param card the code of the card to be played
+     * @param top  the code of the card on top of the table
+     * @return true if the card can be played, false otherwise
      */
-    private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
-        card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(70);
-        return card;
+    public static boolean isPlayable(int card, int top) {
+        return (PLAYABLE[card] >>> top & 1L) != 0;
     }
 
     /**
-     * Gets the ImageView representation of the card.
+     * Gets the mask of every code that can be played on the card with the given code.
+     * Bit {@code c} of the mask is set when code {@code c} is playable.
      *
-     * @return the ImageView of the card
+     * @param top the code of the card on top of the table
+     * @return the mask of the playable codes
      */
-    public ImageView getCard() {
-        return cardImageView;
+    public static long playableMask(int top) {
+        return PLAYABLE[top];
     }
 
     /**
-     * Gets the image of the card.
+     * Gets the mask of every code with the given color.
      *
-     * @return the Image of the card
+     * @param color the color of the cards
+     * @return the mask of the codes with that color
      */
-    public Image getImage() {
-        return image;
+    public static long colorMask(CardColor color) {
+        return COLOR_MASKS[color.ordinal()];
+    }
+
+    /**
+     * Gets the mask of every code with the given rank.
+     *
+     * @param rank the rank of the cards
+     * @return the mask of the codes with that rank
+     */
+    public static long rankMask(CardRank rank) {
+        return RANK_MASKS[rank.ordinal()];
+    }
+
+    /**
+     * Gets the constant identifying the face of the card.
+     *
+     * @return the face of the card
+     */
+    public EISCUnoEnum getType() {
+        return type;
+    }
+
+    /**
+     * Gets the URL of the card image.
+     *
+     * @return the URL of the card image
+     */
+    public String getUrl() {
+        return type.getFilePath();
+    }
+
+    /**
+     * Gets the rank of the card.
+     *
+     * @return the rank of the card
+     */
+    public CardRank getRank() {
+        return rank;
+    }
+
+    /**
+     * Gets the color of the card.
+     *
+     * @return the color of the card
+     */
+    public CardColor getCardColor() {
+        return color;
+    }
+
+    /**
+     * Gets the byte code packing the rank and color of the card.
+     *
+     * @return the code of the card
+     */
+    public byte getCode() {
+        return code;
     }
 
     public String getValue() {
-        return value;
+        return rank.getValue();
     }
 
     public String getColor() {
-        return color;
+        return color.name();
     }
 }
@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * Represents the colors a card of the Uno game can have.
+ * The wild cards have no color and use {@link #NON_COLOR}.
+ */
+public enum CardColor {
+    RED,
+    YELLOW,
+    GREEN,
+    BLUE,
+    NON_COLOR;
+
+    private static final CardColor[] VALUES = values();
+
+    /**
+     * Finds the color matching the given name, as used by {@link Card#getColor()}.
+     *
+     * @param name the name of the color
+     * @return the matching color
+     * @throws IllegalArgumentException if the name does not match any color
+     */
+    public static CardColor fromName(String name) {
+        for (CardColor color : VALUES) {
+            if (color.name().equals(name)) {
+                return color;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card color: " + name);
+    }
+
+    /**
+     * Checks if this is one of the four playable colors.
+     *
+     * @return true for red, yellow, green and blue, false for {@link #NON_COLOR}
+     */
+    public boolean isColored() {
+        return this != NON_COLOR;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * Represents the values a card of the Uno game can have.
+ * The colored ranks come first so a colored card can be encoded as {@code color * 13 + rank}.
+ */
+public enum CardRank {
+    ZERO("0"),
+    ONE("1"),
+    TWO("2"),
+    THREE("3"),
+    FOUR("4"),
+    FIVE("5"),
+    SIX("6"),
+    SEVEN("7"),
+    EIGHT("8"),
+    NINE("9"),
+    SKIP("SKIP"),
+    RESERVE("RESERVE"),
+    TWO_WILD_DRAW("+2"),
+    WILD("WILD"),
+    FOUR_WILD_DRAW("+4");
+
+    /**
+     * Number of ranks that come in every color.
+     */
+    public static final int COLORED_RANKS = 13;
+
+    private static final CardRank[] VALUES = values();
+
+    private final String value;
+
+    /**
+     * Constructor for the CardRank enum.
+     *
+     * @param value the value of the rank, as used by {@link Card#getValue()}
+     */
+    CardRank(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value of the rank, e.g. "7" or "+2".
+     *
+     * @return the value of the rank
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Checks if the rank is a number from 0 to 9.
+     *
+     * @return true if the rank is numeric, false otherwise
+     */
+    public boolean isNumeric() {
+        return ordinal() <= NINE.ordinal();
+    }
+
+    /**
+     * Checks if the rank belongs to a wild card, which has no color.
+     *
+     * @return true for WILD and +4, false otherwise
+     */
+    public boolean isWild() {
+        return ordinal() >= COLORED_RANKS;
+    }
+
+    /**
+     * Finds the rank matching the given value, as used by {@link Card#getValue()}.
+     *
+     * @param value the value of the card
+     * @return the matching rank
+     * @throws IllegalArgumentException if the value does not match any rank
+     */
+    public static CardRank fromValue(String value) {
+        for (CardRank rank : VALUES) {
+            if (rank.value.equals(value)) {
+                return rank;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card value: " + value);
+    }
+}
@@ -1,103 +1,80 @@
 package org.example.eiscuno.model.deck;
 
+import org.example.eiscuno.metrics.GameMetrics;
 import org.example.eiscuno.model.card.Card;
-import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a deck of Uno cards.
+ * The draw pile and the played cards share one array: the draw pile fills it from the start, with the next
+ * card at its end, and the played cards fill it from the end, with the last played card first. Recycling the
+ * played cards moves them back to the start of the array and shuffles them there, without allocating.
  */
 public class Deck {
-    private Stack<Card> deckOfCards;
-    private List<Card> playedCards; // Lista para mantener las cartas jugadas
-    private Player humanPlayer;
-    private Player machinePlayer;
+    private Card[] cards;
+    private int drawCount; // Cartas por robar: cards[0, drawCount)
+    private int playedStart; // Cartas jugadas: cards[playedStart, cards.length), la última en playedStart
+    private final RandomGenerator random;
 
     /**
      * Constructs a new deck of Uno cards and initializes it.
      */
     public Deck() {
-        deckOfCards = new Stack<>();
-        playedCards = new ArrayList<>();
-        initializeDeck();
+        this(new SplittableRandom());
     }
 
     /**
-     * Initializes the deck with cards based on the EISCUnoEnum values.
+     * Constructs a new EISC deck of Uno cards shuffled with the given generator.
+     * Two decks built with generators seeded alike are shuffled, and later replenished, alike.
+     *
+     * @param random the generator of every shuffle of the deck
      */
-    private void initializeDeck() {
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().startsWith("GREEN_") ||
-                    cardEnum.name().startsWith("YELLOW_") ||
-                    cardEnum.name().startsWith("BLUE_") ||
-                    cardEnum.name().startsWith("RED_") ||
-                    cardEnum.name().startsWith("SKIP_") ||
-                    cardEnum.name().startsWith("RESERVE_") ||
-                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
-                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
-                    cardEnum.name().equals("WILD")) {
-                Card card = new Card(cardEnum.getFilePath(), getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
-                deckOfCards.push(card);
-                // Print each card
-                System.out.println(card.getValue() + " " + card.getColor());
-            }
-        }
-        Collections.shuffle(deckOfCards);
+    public Deck(RandomGenerator random) {
+        this(DeckComposition.EISC, 1, random);
     }
 
-    private String getCardValue(String name) {
-        if (name.endsWith("0")) {
-            return "0";
-        } else if (name.endsWith("1")) {
-            return "1";
-        } else if (name.endsWith("2")) {
-            return "2";
-        } else if (name.endsWith("3")) {
-            return "3";
-        } else if (name.endsWith("4")) {
-            return "4";
-        } else if (name.endsWith("5")) {
-            return "5";
-        } else if (name.endsWith("6")) {
-            return "6";
-        } else if (name.endsWith("7")) {
-            return "7";
-        } else if (name.endsWith("8")) {
-            return "8";
-        } else if (name.endsWith("9")) {
-            return "9";
-        } else if (name.contains("RESERVE")) {
-            return "RESERVE";
-        } else if (name.contains("TWO_WILD_DRAW")) {
-            return "+2";
-        } else if (name.equals("FOUR_WILD_DRAW")) {
-            return "+4";
-        } else if (name.equals("WILD")) {
-            return "WILD";
-        } else if (name.contains("SKIP")) {
-            return "SKIP";
-        } else {
-            return "NON_VALUE";
+    /**
+     * Constructs a new deck made of several decks of the given composition, e.g. for large tables.
+     *
+     * @param composition the composition of each deck
+     * @param copies      the number of decks shuffled together
+     * @param random      the generator of every shuffle of the deck
+     * @throws IllegalArgumentException if the number of decks is not positive
+     */
+    public Deck(DeckComposition composition, int copies, RandomGenerator random) {
+        if (copies < 1) {
+            throw new IllegalArgumentException("A deck needs at least one copy of its composition.");
         }
-
+        this.random = random;
+        cards = new Card[composition.size() * copies];
+        for (int copy = 0; copy < copies; copy++) {
+            composition.copyTo(cards, copy * composition.size());
+        }
+        drawCount = cards.length;
+        playedStart = cards.length;
+        shuffle(drawCount);
     }
 
-    private String getCardColor(String name) {
-        if (name.contains("GREEN")) {
-            return "GREEN";
-        } else if (name.contains("YELLOW")) {
-            return "YELLOW";
-        } else if (name.contains("BLUE")) {
-            return "BLUE";
-        } else if (name.contains("RED")) {
-            return "RED";
-        } else {
-            return "NON_COLOR";
+    /**
+     * Constructs a deck holding the given cards in the given order, e.g. to resume a saved game.
+     *
+     * @param drawCodes   the codes of the cards left to draw, from the bottom to the card drawn next
+     * @param playedCodes the codes of the played cards, from the first card played to the last one
+     * @param random      the generator of every later shuffle of the deck
+     * @throws IllegalArgumentException if a code is not a card
+     */
+    public Deck(byte[] drawCodes, byte[] playedCodes, RandomGenerator random) {
+        this.random = random;
+        cards = new Card[Math.max(1, drawCodes.length + playedCodes.length)];
+        for (byte code : drawCodes) {
+            cards[drawCount++] = DeckComposition.cardOf(code);
+        }
+        playedStart = cards.length;
+        for (byte code : playedCodes) {
+            cards[--playedStart] = DeckComposition.cardOf(code);
         }
     }
 
@@ -108,47 +85,127 @@ public class Deck {
      * @throws IllegalStateException if the deck is empty
      */
     public Card takeCard() {
-        if (deckOfCards.isEmpty()) {
+        if (drawCount == 0) {
             replenishDeck();
-            if (deckOfCards.isEmpty()) {
+            if (drawCount == 0) {
                 throw new IllegalStateException("No hay más cartas en el mazo.");
             }
         }
-        return deckOfCards.pop();
+        Card card = cards[--drawCount];
+        cards[drawCount] = null;
+        GameMetrics.CARDS_DRAWN.increment();
+        return card;
     }
 
     /**
-     * Replenishes the deck with the played cards, excluding the cards in hands of players.
+     * Replenishes the deck with the played cards, except the last one, which stays on the table.
+     * Played cards have left the hands of the players, so the hands need not be checked.
      */
     private void replenishDeck() {
-        List<Card> cardsToReplenish = new ArrayList<>(playedCards);
-        playedCards.clear();
-
-        cardsToReplenish.removeAll(humanPlayer.getCardsPlayer());
-        cardsToReplenish.removeAll(machinePlayer.getCardsPlayer());
+        int recycled = cards.length - playedStart - 1;
+        if (recycled <= 0) {
+            return;
+        }
+        GameMetrics.DECK_RECYCLES.increment();
+        Card top = cards[playedStart];
+        System.arraycopy(cards, playedStart + 1, cards, 0, recycled);
+        Arrays.fill(cards, recycled, cards.length - 1, null);
+        cards[cards.length - 1] = top;
+        drawCount = recycled;
+        playedStart = cards.length - 1;
+        shuffle(drawCount);
+    }
 
-        Collections.shuffle(cardsToReplenish);
-        deckOfCards.addAll(cardsToReplenish);
+    /**
+     * Shuffles the start of the draw pile in place with the Fisher-Yates algorithm, drawing from the
+     * deck's generator.
+     *
+     * @param count the number of cards to shuffle
+     */
+    private void shuffle(int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
     }
 
     /**
-     * Adds a card to the list of played cards.
+     * Adds a card to the played cards.
      *
      * @param card the card to add
      */
     public void addPlayedCard(Card card) {
-        playedCards.add(card);
+        if (drawCount == playedStart) {
+            grow();
+        }
+        cards[--playedStart] = card;
+    }
+
+    /**
+     * Doubles the array, for cards added to the game from outside the deck.
+     */
+    private void grow() {
+        Card[] grown = new Card[cards.length * 2];
+        int playedCount = cards.length - playedStart;
+        System.arraycopy(cards, 0, grown, 0, drawCount);
+        System.arraycopy(cards, playedStart, grown, grown.length - playedCount, playedCount);
+        playedStart = grown.length - playedCount;
+        cards = grown;
+    }
+
+    /**
+     * Counts the cards left to draw.
+     *
+     * @return the number of cards in the deck
+     */
+    public int getCardCount() {
+        return drawCount;
     }
 
     /**
-     * Sets the players in the game. This is necessary to exclude their cards when replenishing the deck.
+     * Checks if a card can be taken, from the deck or from the played cards shuffled back into it.
      *
-     * @param humanPlayer   the human player
-     * @param machinePlayer the machine player
+     * @return true if {@link #takeCard()} would return a card, false if every card is in a hand or on the table
      */
-    public void setPlayers(Player humanPlayer, Player machinePlayer) {
-        this.humanPlayer = humanPlayer;
-        this.machinePlayer = machinePlayer;
+    public boolean canTakeCard() {
+        return drawCount > 0 || cards.length - playedStart > 1;
+    }
+
+    /**
+     * Counts the played cards waiting to be shuffled back into the deck.
+     *
+     * @return the number of played cards
+     */
+    public int getPlayedCardCount() {
+        return cards.length - playedStart;
+    }
+
+    /**
+     * Copies the codes of the cards left to draw.
+     *
+     * @return the codes, from the bottom of the deck to the card drawn next
+     */
+    public byte[] getCardCodes() {
+        byte[] codes = new byte[drawCount];
+        for (int i = 0; i < drawCount; i++) {
+            codes[i] = cards[i].getCode();
+        }
+        return codes;
+    }
+
+    /**
+     * Copies the codes of the played cards.
+     *
+     * @return the codes, from the first card played to the last one
+     */
+    public byte[] getPlayedCardCodes() {
+        byte[] codes = new byte[cards.length - playedStart];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cards[cards.length - 1 - i].getCode();
+        }
+        return codes;
     }
 
     /**
@@ -157,6 +214,6 @@ public class Deck {
      * @return true if the deck is empty, false otherwise
      */
     public boolean isEmpty() {
-        return deckOfCards.isEmpty();
+        return drawCount == 0;
     }
 }
@@ -0,0 +1,141 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The kinds of decks a game can be played with.
+ * Each composition builds its cards once, into an immutable template that new decks copy. Cards hold
+ * no mutable state, so every deck shares the instances of its template.
+ */
+public enum DeckComposition {
+    /**
+     * The deck of the EISC game: one card of each face, 54 cards.
+     */
+    EISC(new int[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1}, 1),
+    /**
+     * The official Uno deck: one 0 and two of every other colored card per color, four WILD and four +4,
+     * 108 cards.
+     */
+    OFFICIAL(new int[]{1, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2}, 4);
+
+    private static final Card[] CARD_BY_CODE = new Card[Card.CODE_COUNT];
+
+    static {
+        for (CardRank rank : CardRank.values()) {
+            if (rank.isWild()) {
+                CARD_BY_CODE[Card.encode(rank, CardColor.NON_COLOR)] = new Card(faceOf(rank, CardColor.NON_COLOR), rank, CardColor.NON_COLOR);
+            } else {
+                for (CardColor color : CardColor.values()) {
+                    if (color.isColored()) {
+                        CARD_BY_CODE[Card.encode(rank, color)] = new Card(faceOf(rank, color), rank, color);
+                    }
+                }
+            }
+        }
+        for (DeckComposition composition : values()) {
+            composition.template = composition.buildTemplate();
+        }
+    }
+
+    private final int[] copiesPerColoredRank;
+    private final int copiesPerWildRank;
+    private Card[] template;
+
+    DeckComposition(int[] copiesPerColoredRank, int copiesPerWildRank) {
+        this.copiesPerColoredRank = copiesPerColoredRank;
+        this.copiesPerWildRank = copiesPerWildRank;
+    }
+
+    /**
+     * Gets the face showing a card.
+     *
+     * @param rank  the rank of the card
+     * @param color the color of the card
+     * @return the face of the card
+     */
+    private static EISCUnoEnum faceOf(CardRank rank, CardColor color) {
+        return switch (rank) {
+            case WILD -> EISCUnoEnum.WILD;
+            case FOUR_WILD_DRAW -> EISCUnoEnum.FOUR_WILD_DRAW;
+            case SKIP -> EISCUnoEnum.valueOf("SKIP_" + color.name());
+            case RESERVE -> EISCUnoEnum.valueOf("RESERVE_" + color.name());
+            case TWO_WILD_DRAW -> EISCUnoEnum.valueOf("TWO_WILD_DRAW_" + color.name());
+            default -> EISCUnoEnum.valueOf(color.name() + "_" + rank.getValue());
+        };
+    }
+
+    private Card[] buildTemplate() {
+        int size = 0;
+        for (Card card : CARD_BY_CODE) {
+            size += copiesOf(card.getRank());
+        }
+        Card[] cards = new Card[size];
+        int index = 0;
+        for (Card card : CARD_BY_CODE) {
+            for (int copy = copiesOf(card.getRank()); copy > 0; copy--) {
+                cards[index++] = card;
+            }
+        }
+        return cards;
+    }
+
+    private int copiesOf(CardRank rank) {
+        return rank.isWild() ? copiesPerWildRank : copiesPerColoredRank[rank.ordinal()];
+    }
+
+    /**
+     * Gets the number of cards of one deck of this composition.
+     *
+     * @return the size of the deck
+     */
+    public int size() {
+        return template.length;
+    }
+
+    /**
+     * Gets a composition by its name, in any case, e.g. "official".
+     *
+     * @param name the name of the composition
+     * @return the composition
+     * @throws IllegalArgumentException if no composition has this name
+     */
+    public static DeckComposition forName(String name) {
+        for (DeckComposition composition : values()) {
+            if (composition.name().equalsIgnoreCase(name.trim())) {
+                return composition;
+            }
+        }
+        throw new IllegalArgumentException("Unknown deck composition: " + name + "; expected one of "
+                + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the card with a code. Cards are immutable, so every deck shares one instance per code.
+     *
+     * @param code the code of the card
+     * @return the card
+     * @throws IllegalArgumentException if no card has this code
+     */
+    public static Card cardOf(int code) {
+        if (code < 0 || code >= Card.CODE_COUNT) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        return CARD_BY_CODE[code];
+    }
+
+    /**
+     * Copies the cards of this composition into an array, unshuffled.
+     *
+     * @param cards  the destination array
+     * @param offset the index of the first card in the destination
+     */
+    void copyTo(Card[] cards, int offset) {
+        System.arraycopy(template, 0, cards, offset, template.length);
+    }
+}
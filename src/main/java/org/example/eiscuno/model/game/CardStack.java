@@ -0,0 +1,94 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * An immutable stack of card codes, built as a linked list whose nodes are shared between versions.
+ * Pushing and popping create or drop a single node, so the stacks of two forked states share every
+ * card they have in common.
+ */
+final class CardStack {
+    static final CardStack EMPTY = new CardStack();
+
+    private final byte code;
+    private final CardStack next;
+    private final int size;
+
+    private CardStack() {
+        this.code = -1;
+        this.next = null;
+        this.size = 0;
+    }
+
+    private CardStack(byte code, CardStack next) {
+        this.code = code;
+        this.next = next;
+        this.size = next.size + 1;
+    }
+
+    /**
+     * Builds a stack from an array of codes.
+     *
+     * @param codes the codes, from the bottom of the stack to the top
+     * @param count the number of codes to take from the start of the array
+     * @return the stack
+     */
+    static CardStack of(byte[] codes, int count) {
+        CardStack stack = EMPTY;
+        for (int i = 0; i < count; i++) {
+            stack = stack.push(codes[i]);
+        }
+        return stack;
+    }
+
+    CardStack push(int code) {
+        return new CardStack((byte) code, this);
+    }
+
+    /**
+     * Gets the code on top of the stack.
+     *
+     * @return the top code
+     * @throws IllegalStateException if the stack is empty
+     */
+    int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("The stack is empty.");
+        }
+        return code;
+    }
+
+    /**
+     * Gets the stack without its top code.
+     *
+     * @return the rest of the stack
+     * @throws IllegalStateException if the stack is empty
+     */
+    CardStack pop() {
+        if (size == 0) {
+            throw new IllegalStateException("The stack is empty.");
+        }
+        return next;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the codes of the stack into a new array.
+     *
+     * @return the codes, from the bottom of the stack to the top
+     */
+    byte[] toArray() {
+        byte[] codes = new byte[size];
+        CardStack node = this;
+        for (int i = size - 1; i >= 0; i--) {
+            codes[i] = node.code;
+            node = node.next;
+        }
+        return codes;
+    }
+}
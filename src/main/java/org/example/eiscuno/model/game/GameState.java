@@ -0,0 +1,417 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardRank;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * An immutable snapshot of a two-seat game of Uno, following the card rules of {@link GameUno}.
+ * A turn is a single move: a draw ends it, where in {@link GameUno} a seat that has drawn may still play
+ * before passing. The machine players never play the card they drew, so the search plans their turns exactly,
+ * and assumes the same of the human.
+ * Cards are held as codes (see {@link Card#getCode()}): the hands are count vectors and the deck and the
+ * discard pile are persistent stacks, so {@link #apply(Move)} returns a new state that shares every part
+ * the move did not touch. Keeping a state, forking it or rolling back to it is free, which makes it the
+ * position type of look-ahead search and replays.
+ * The state also carries the seed used the next time the discard pile is shuffled back into the deck,
+ * so applying the same moves to the same state always gives the same result.
+ */
+public final class GameState {
+    /** The number of seats at the table. */
+    public static final int SEATS = 2;
+    /** The seat of the human player. */
+    public static final int HUMAN_SEAT = 0;
+    /** The seat of the machine player. */
+    public static final int MACHINE_SEAT = 1;
+    /** The number of cards dealt to each player. */
+    public static final int INITIAL_HAND_SIZE = 5;
+
+    private final HandCounts[] hands;
+    private final CardStack deck;
+    private final CardStack discard;
+    private final int currentSeat;
+    private final int winner;
+    private final long seed;
+    private final int moveCount;
+
+    private GameState(HandCounts[] hands, CardStack deck, CardStack discard, int currentSeat, int winner,
+                      long seed, int moveCount) {
+        this.hands = hands;
+        this.deck = deck;
+        this.discard = discard;
+        this.currentSeat = currentSeat;
+        this.winner = winner;
+        this.seed = seed;
+        this.moveCount = moveCount;
+    }
+
+    /**
+     * Deals a new game from a shuffled deck of one card of each code, as {@link GameUno#startGame()} does:
+     * five cards for each player and a numeric card to start the discard pile. The human plays first.
+     *
+     * @param seed the seed of every shuffle of the game
+     * @return the initial state
+     */
+    public static GameState newGame(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        byte[] codes = new byte[Card.CODE_COUNT];
+        for (int code = 0; code < codes.length; code++) {
+            codes[code] = (byte) code;
+        }
+        shuffle(codes, codes.length, random);
+
+        CardStack deck = CardStack.of(codes, codes.length);
+        HandCounts[] hands = new HandCounts[SEATS];
+        for (int seat = 0; seat < SEATS; seat++) {
+            HandCounts hand = HandCounts.EMPTY;
+            for (int i = 0; i < INITIAL_HAND_SIZE; i++) {
+                hand = hand.with(deck.peek());
+                deck = deck.pop();
+            }
+            hands[seat] = hand;
+        }
+
+        // Special cards turned while looking for the starting card stay under it
+        CardStack discard = CardStack.EMPTY;
+        do {
+            discard = discard.push(deck.peek());
+            deck = deck.pop();
+        } while (!Card.rankOf(discard.peek()).isNumeric());
+
+        return new GameState(hands, deck, discard, HUMAN_SEAT, -1, random.nextLong(), 0);
+    }
+
+    /**
+     * Builds a state from the contents of a game in progress.
+     *
+     * @param hands       the codes of the cards of each seat
+     * @param deck        the codes of the deck, from the bottom to the card drawn next
+     * @param discard     the codes of the discard pile, from the bottom to the card on the table
+     * @param currentSeat the seat to play
+     * @param seed        the seed of the next shuffle
+     * @return the state
+     * @throws IllegalArgumentException if the number of hands is wrong or the discard pile is empty
+     */
+    public static GameState of(byte[][] hands, byte[] deck, byte[] discard, int currentSeat, long seed) {
+        if (hands.length != SEATS) {
+            throw new IllegalArgumentException("A game has " + SEATS + " seats.");
+        }
+        if (discard.length == 0) {
+            throw new IllegalArgumentException("The discard pile needs a card on the table.");
+        }
+        HandCounts[] handCounts = new HandCounts[SEATS];
+        int winner = -1;
+        for (int seat = 0; seat < SEATS; seat++) {
+            HandCounts hand = HandCounts.EMPTY;
+            for (byte code : hands[seat]) {
+                hand = hand.with(code);
+            }
+            handCounts[seat] = hand;
+            if (hand.size() == 0 && winner < 0) {
+                winner = seat;
+            }
+        }
+        return new GameState(handCounts, CardStack.of(deck, deck.length), CardStack.of(discard, discard.length),
+                currentSeat, winner, seed, 0);
+    }
+
+    /**
+     * Applies a move and returns the resulting state. This state is left unchanged.
+     * A card played on a +2, +4, SKIP or RESERVE keeps the turn, as in {@link GameUno#handleSpecialCards};
+     * any other card and a draw pass the turn. When both the deck and the discard pile run out, the
+     * missing cards are simply not drawn.
+     *
+     * @param move the move to apply
+     * @return the state after the move
+     * @throws IllegalStateException if the move is not legal in this state
+     */
+    public GameState apply(Move move) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over.");
+        }
+        int seat = move.getSeat();
+        Transition next = new Transition(this);
+        switch (move.getType()) {
+            case PLAY -> {
+                checkTurn(seat);
+                int code = move.getCode();
+                if (!Card.isPlayable(code, discard.peek())) {
+                    throw new IllegalStateException("The card cannot be played on the current card.");
+                }
+                next.removeCard(seat, code);
+                next.discard = discard.push(code);
+                CardRank rank = Card.rankOf(code);
+                boolean keepsTurn = switch (rank) {
+                    case TWO_WILD_DRAW -> next.draw(opponentOf(seat), 2);
+                    case FOUR_WILD_DRAW -> next.draw(opponentOf(seat), 4);
+                    case SKIP, RESERVE -> true;
+                    default -> false;
+                };
+                if (next.hands[seat].size() == 0) {
+                    next.winner = seat;
+                }
+                next.currentSeat = keepsTurn ? seat : opponentOf(seat);
+            }
+            case DRAW -> {
+                checkTurn(seat);
+                next.draw(seat, 1);
+                next.currentSeat = opponentOf(seat);
+            }
+            case CATCH_UNO -> {
+                if (hands[opponentOf(seat)].size() != 1) {
+                    throw new IllegalStateException("The opponent does not have a single card.");
+                }
+                next.draw(opponentOf(seat), 1);
+            }
+        }
+        return next.build();
+    }
+
+    private void checkTurn(int seat) {
+        if (seat != currentSeat) {
+            throw new IllegalStateException("It is not the turn of seat " + seat + ".");
+        }
+    }
+
+    /**
+     * Gets the seat playing after the given one.
+     *
+     * @param seat the seat
+     * @return the next seat
+     */
+    public static int opponentOf(int seat) {
+        return (seat + 1) % SEATS;
+    }
+
+    /**
+     * Lists the moves the current seat may make: each distinct playable card and drawing a card.
+     * Catching the opponent is left out, since it is not part of a turn.
+     *
+     * @return the legal moves, empty if the game is over
+     */
+    public List<Move> getLegalMoves() {
+        List<Move> moves = new ArrayList<>();
+        if (isOver()) {
+            return moves;
+        }
+        long playable = getPlayableMask();
+        while (playable != 0) {
+            moves.add(Move.play(currentSeat, Long.numberOfTrailingZeros(playable)));
+            playable &= playable - 1;
+        }
+        moves.add(Move.draw(currentSeat));
+        return moves;
+    }
+
+    /**
+     * Gets the mask of the codes of the current seat's hand that can be played on the table.
+     *
+     * @return the mask of the playable codes
+     */
+    public long getPlayableMask() {
+        return hands[currentSeat].mask() & Card.playableMask(discard.peek());
+    }
+
+    /**
+     * Returns this state with another seed for the next shuffle, e.g. to sample a different future.
+     *
+     * @param seed the new seed
+     * @return the state with the new seed
+     */
+    public GameState withSeed(long seed) {
+        return new GameState(hands, deck, discard, currentSeat, winner, seed, moveCount);
+    }
+
+    /**
+     * Returns this state with the cards of a seat's hand and of the deck shuffled together and dealt again,
+     * keeping the size of the hand. Used to sample the cards a player cannot see.
+     *
+     * @param hiddenSeat the seat whose hand is hidden
+     * @param seed       the seed of the shuffle
+     * @return a state consistent with everything visible to the other seats
+     */
+    public GameState redeal(int hiddenSeat, long seed) {
+        HandCounts hidden = hands[hiddenSeat];
+        byte[] codes = new byte[hidden.size() + deck.size()];
+        System.arraycopy(deck.toArray(), 0, codes, 0, deck.size());
+        int count = deck.size();
+        long held = hidden.mask();
+        while (held != 0) {
+            int code = Long.numberOfTrailingZeros(held);
+            for (int copies = hidden.count(code); copies > 0; copies--) {
+                codes[count++] = (byte) code;
+            }
+            held &= held - 1;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        shuffle(codes, codes.length, random);
+
+        HandCounts hand = HandCounts.EMPTY;
+        for (int i = codes.length - hidden.size(); i < codes.length; i++) {
+            hand = hand.with(codes[i]);
+        }
+        HandCounts[] newHands = hands.clone();
+        newHands[hiddenSeat] = hand;
+        return new GameState(newHands, CardStack.of(codes, codes.length - hidden.size()), discard, currentSeat,
+                winner, random.nextLong(), moveCount);
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Gets the seat that won the game.
+     *
+     * @return the seat of the winner, or -1 while the game is in progress
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    public boolean isOver() {
+        return winner >= 0;
+    }
+
+    public int getHandSize(int seat) {
+        return hands[seat].size();
+    }
+
+    /**
+     * Counts the copies of a card in a seat's hand.
+     *
+     * @param seat the seat
+     * @param code the code of the card
+     * @return the number of copies held
+     */
+    public int getCardCount(int seat, int code) {
+        return hands[seat].count(code);
+    }
+
+    /**
+     * Gets the mask of the codes held by a seat.
+     *
+     * @param seat the seat
+     * @return the mask of the held codes
+     */
+    public long getHandMask(int seat) {
+        return hands[seat].mask();
+    }
+
+    /**
+     * Gets the code of the card on the table.
+     *
+     * @return the code of the top card
+     */
+    public int getTopCard() {
+        return discard.peek();
+    }
+
+    public int getDeckSize() {
+        return deck.size();
+    }
+
+    public int getDiscardSize() {
+        return discard.size();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Counts the moves applied since the state was dealt or built.
+     *
+     * @return the number of moves
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Shuffles the first codes of an array in place with the Fisher-Yates algorithm.
+     */
+    private static void shuffle(byte[] codes, int count, SplittableRandom random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = codes[i];
+            codes[i] = codes[j];
+            codes[j] = swap;
+        }
+    }
+
+    /**
+     * Collects the parts of the state changed by a move; the hands array is copied only when a hand changes.
+     */
+    private static final class Transition {
+        private final GameState from;
+        private HandCounts[] hands;
+        private CardStack deck;
+        private CardStack discard;
+        private int currentSeat;
+        private int winner;
+        private long seed;
+
+        private Transition(GameState from) {
+            this.from = from;
+            this.hands = from.hands;
+            this.deck = from.deck;
+            this.discard = from.discard;
+            this.currentSeat = from.currentSeat;
+            this.winner = from.winner;
+            this.seed = from.seed;
+        }
+
+        private HandCounts[] writableHands() {
+            if (hands == from.hands) {
+                hands = hands.clone();
+            }
+            return hands;
+        }
+
+        private void removeCard(int seat, int code) {
+            writableHands()[seat] = hands[seat].without(code);
+        }
+
+        /**
+         * Draws cards into a seat's hand, shuffling the discard pile back into the deck when it runs out.
+         *
+         * @return true, so penalties can be used as the result of a rule
+         */
+        private boolean draw(int seat, int count) {
+            HandCounts hand = hands[seat];
+            for (int i = 0; i < count; i++) {
+                if (deck.isEmpty()) {
+                    replenish();
+                    if (deck.isEmpty()) {
+                        break;
+                    }
+                }
+                hand = hand.with(deck.peek());
+                deck = deck.pop();
+            }
+            writableHands()[seat] = hand;
+            return true;
+        }
+
+        /**
+         * Shuffles every card of the discard pile but the top one into the deck.
+         */
+        private void replenish() {
+            int top = discard.peek();
+            byte[] codes = discard.pop().toArray();
+            SplittableRandom random = new SplittableRandom(seed);
+            shuffle(codes, codes.length, random);
+            seed = random.nextLong();
+            deck = CardStack.of(codes, codes.length);
+            discard = CardStack.EMPTY.push(top);
+        }
+
+        private GameState build() {
+            return new GameState(hands, deck, discard, currentSeat, winner, seed, from.moveCount + 1);
+        }
+    }
+}
@@ -1,64 +1,311 @@
 package org.example.eiscuno.model.game;
 
-import javafx.application.Platform;
+import org.example.eiscuno.log.GameLogger;
+import org.example.eiscuno.log.LogLevel;
+import org.example.eiscuno.metrics.GameMetrics;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
 import org.example.eiscuno.model.deck.Deck;
-import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.deck.DeckComposition;
+import org.example.eiscuno.model.journal.GameJournal;
+import org.example.eiscuno.model.journal.JournalEventType;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.save.GameSnapshot;
 import org.example.eiscuno.model.table.Table;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a game of Uno.
  * This class manages the game logic and interactions between players, deck, and the table.
+ * <p>
+ * The players, deck and table are not thread-safe on their own: the GameUno instance is the lock
+ * that guards them. Every public method of this class holds it, so each call is atomic, and callers
+ * that combine several calls into one decision (look at the hand, then play) synchronize on the
+ * GameUno instance themselves.
+ * <p>
+ * A game seats from {@value #MIN_PLAYERS} to {@value #MAX_PLAYERS} players, humans and machines in any order.
+ * The turn goes round the seats in the current direction, which a REVERSE card flips; finding the next seat
+ * is a modular step, so a turn costs the same at any table size. With two seats, the seat of the human
+ * player is {@link GameState#HUMAN_SEAT} and the seat of the machine {@link GameState#MACHINE_SEAT}.
  */
 public class GameUno implements IGameUno, IGameEndSubject {
+    private static final GameLogger LOG = GameLogger.getLogger(GameUno.class);
+    private static final AtomicLong GAME_IDS = new AtomicLong();
+    private static final int CARDS_PER_HAND = 5;
+    private static final int DRAW_PILE_RESERVE = 10; // Cards left to draw after the deal, at the least
 
-    private Player humanPlayer;
-    private Player machinePlayer;
+    /** The fewest players a game seats. */
+    public static final int MIN_PLAYERS = 2;
+    /** The most players a game seats. */
+    public static final int MAX_PLAYERS = 10;
+
+    private final IPlayer[] seats;
+    private final Map<IPlayer, Integer> seatByPlayer = new IdentityHashMap<>();
+    private int direction = 1; // 1 goes up the seats, -1 down them after a REVERSE
     private Deck deck;
     private Table table;
-    private List<IGameEndObserver> gameEndObservers = new ArrayList<>();
+    private List<IGameEndObserver> gameEndObservers = new CopyOnWriteArrayList<>();
+    private final Executor callbackExecutor;
+    private final SplittableRandom random;
+    private final long gameId = GAME_IDS.incrementAndGet();
+    private int turn;
+    private long lastPlayNanos;
+    private boolean deckExhausted; // Warned that every card is in a hand or on the table
+    private GameJournal journal;
+    private TurnState turnState = TurnState.NOT_STARTED;
+    private final List<ITurnObserver> turnObservers = new CopyOnWriteArrayList<>();
 
     /**
-     * Constructs a new GameUno instance.
+     * Constructs a new headless GameUno instance.
+     * Deferred checks run directly on the calling thread, so no UI toolkit is needed.
      *
      * @param humanPlayer   The human player participating in the game.
      * @param machinePlayer The machine player participating in the game.
      * @param deck          The deck of cards used in the game.
      * @param table         The table where cards are placed during the game.
      */
-    public GameUno(Player humanPlayer, Player machinePlayer, Deck deck, Table table) {
-        this.humanPlayer = humanPlayer;
-        this.machinePlayer = machinePlayer;
+    public GameUno(IPlayer humanPlayer, IPlayer machinePlayer, Deck deck, Table table) {
+        this(humanPlayer, machinePlayer, deck, table, Runnable::run);
+    }
+
+    /**
+     * Constructs a new GameUno instance.
+     *
+     * @param humanPlayer      The human player participating in the game.
+     * @param machinePlayer    The machine player participating in the game.
+     * @param deck             The deck of cards used in the game.
+     * @param table            The table where cards are placed during the game.
+     * @param callbackExecutor The executor that runs deferred checks and UI callbacks,
+     *                         e.g. {@code Platform::runLater} for the JavaFX interface.
+     */
+    public GameUno(IPlayer humanPlayer, IPlayer machinePlayer, Deck deck, Table table, Executor callbackExecutor) {
+        this(humanPlayer, machinePlayer, deck, table, callbackExecutor, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new GameUno instance whose randomness derives from the given generator.
+     * For a game that can be replayed exactly, build the deck from a split of the same generator.
+     *
+     * @param humanPlayer      The human player participating in the game.
+     * @param machinePlayer    The machine player participating in the game.
+     * @param deck             The deck of cards used in the game.
+     * @param table            The table where cards are placed during the game.
+     * @param callbackExecutor The executor that runs deferred checks and UI callbacks.
+     * @param random           The generator the machine players and timers of the game split theirs from.
+     */
+    public GameUno(IPlayer humanPlayer, IPlayer machinePlayer, Deck deck, Table table, Executor callbackExecutor,
+                   SplittableRandom random) {
+        this(List.of(humanPlayer, machinePlayer), deck, table, callbackExecutor, random);
+    }
+
+    /**
+     * Constructs a new GameUno instance for any number of players, whose randomness derives from the given generator.
+     *
+     * @param players          The players in seat order; the first one plays first.
+     * @param deck             The deck of cards used in the game.
+     * @param table            The table where cards are placed during the game.
+     * @param callbackExecutor The executor that runs deferred checks and UI callbacks.
+     * @param random           The generator the machine players and timers of the game split theirs from.
+     * @throws IllegalArgumentException if the number of players is out of range or a player sits twice.
+     */
+    public GameUno(List<? extends IPlayer> players, Deck deck, Table table, Executor callbackExecutor,
+                   SplittableRandom random) {
+        if (players.size() < MIN_PLAYERS || players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game seats from " + MIN_PLAYERS + " to " + MAX_PLAYERS + " players.");
+        }
+        this.seats = players.toArray(new IPlayer[0]);
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seatByPlayer.put(seats[seat], seat) != null) {
+                throw new IllegalArgumentException("A player cannot sit twice.");
+            }
+        }
+        this.random = random;
         this.deck = deck;
         this.table = table;
-        this.gameEndObservers = new ArrayList<>();
-        deck.setPlayers(humanPlayer, machinePlayer); // Set players in the deck
+        this.callbackExecutor = callbackExecutor;
     }
 
     /**
      * Starts the Uno game by distributing cards to players.
-     * The human player and the machine player each receive 10 cards from the deck.
+     * Each player receives 5 cards from the deck, seat by seat.
+     *
+     * @throws IllegalStateException if the deck is too small for the table, see {@link #minimumDeckSize(int)}.
      */
     @Override
-    public void startGame() {
-        for (int i = 0; i < 10; i++) {
-            if (i < 5) {
-                humanPlayer.addCard(this.deck.takeCard());
-            } else {
-                machinePlayer.addCard(this.deck.takeCard());
+    public synchronized void startGame() {
+        if (deck.getCardCount() < minimumDeckSize(seats.length)) {
+            throw new IllegalStateException("A deck of " + deck.getCardCount() + " cards is too small for "
+                    + seats.length + " players; it needs " + minimumDeckSize(seats.length) + ".");
+        }
+        journalDeck(null);
+        for (IPlayer player : seats) {
+            for (int i = 0; i < CARDS_PER_HAND; i++) {
+                player.addCard(takeCard(player, JournalEventType.DEAL));
             }
         }
 
         // Play a numeric card to start the game
-        Card initialCard;
-        do {
+        Card initialCard = deck.takeCard();
+        while (!isNumericCard(initialCard)) {
+            deck.addPlayedCard(initialCard); // Keep the skipped card in the game
+            journal(JournalEventType.BURN, null, initialCard, 0);
             initialCard = deck.takeCard();
-        } while (!isNumericCard(initialCard));
+        }
         table.addCardOnTheTable(initialCard);
         deck.addPlayedCard(initialCard); // Add the initial card to the played cards
+        journal(JournalEventType.TOP, null, initialCard, 0);
+        moveTo(TurnPhase.AWAITING_MOVE, 0);
+    }
+
+    /**
+     * Gets the fewest cards a deck needs to deal to a table and keep a draw pile.
+     *
+     * @param seatCount The number of players.
+     * @return The minimum number of cards of the deck.
+     */
+    public static int minimumDeckSize(int seatCount) {
+        return seatCount * CARDS_PER_HAND + DRAW_PILE_RESERVE;
+    }
+
+    /**
+     * Builds a deck for a table: the EISC deck when it is large enough, otherwise enough official decks.
+     *
+     * @param seatCount The number of players.
+     * @param random    The generator of every shuffle of the deck.
+     * @return A deck of at least {@link #minimumDeckSize(int)} cards.
+     */
+    public static Deck deckFor(int seatCount, SplittableRandom random) {
+        int needed = minimumDeckSize(seatCount);
+        if (needed <= DeckComposition.EISC.size()) {
+            return new Deck(random);
+        }
+        int copies = (needed + DeckComposition.OFFICIAL.size() - 1) / DeckComposition.OFFICIAL.size();
+        return new Deck(DeckComposition.OFFICIAL, copies, random);
+    }
+
+    /**
+     * Sets the journal the state transitions of the game are appended to. Must be called before the game starts.
+     *
+     * @param journal The journal of the game, or null to keep none.
+     * @throws IllegalStateException if the game does not have two seats, the only games journals replay.
+     */
+    public synchronized void setJournal(GameJournal journal) {
+        requireTwoSeats();
+        this.journal = journal;
+    }
+
+    /**
+     * Takes a card from the deck for a player, journaling the draw and, if the deck had to be
+     * replenished, its new order. Running out of cards is logged once, until a card can be drawn again.
+     *
+     * @param player The player who receives the card.
+     * @param type   The type of the journal record, DEAL or DRAW.
+     * @return The card taken, or null if every card is in a hand or on the table.
+     */
+    private Card takeCard(IPlayer player, JournalEventType type) {
+        if (!deck.canTakeCard()) {
+            if (!deckExhausted) {
+                deckExhausted = true;
+                LOG.log(LogLevel.WARN, gameId, turn, player.getTypePlayer(), null, player.getHandSize(),
+                        "No hay más cartas en el mazo; no se roban cartas hasta que se jueguen otras.");
+            }
+            return null;
+        }
+        deckExhausted = false;
+        boolean replenishing = deck.getCardCount() == 0;
+        Card card = deck.takeCard();
+        if (journal != null) {
+            if (replenishing) {
+                journal(JournalEventType.RECYCLE, null, null, 0);
+                journalDeck(card);
+            }
+            journal(type, player, card, 0);
+        }
+        return card;
+    }
+
+    /**
+     * Journals the cards of the deck, from the bottom to the card drawn next.
+     *
+     * @param drawnCard A card just taken from the top of the deck, or null.
+     */
+    private void journalDeck(Card drawnCard) {
+        if (journal == null) {
+            return;
+        }
+        for (byte code : deck.getCardCodes()) {
+            journal.append(JournalEventType.DECK, -1, code, 0, turn);
+        }
+        if (drawnCard != null) {
+            journal.append(JournalEventType.DECK, -1, drawnCard.getCode(), 0, turn);
+        }
+    }
+
+    /**
+     * Appends a record to the journal of the game, if it has one.
+     */
+    private void journal(JournalEventType type, IPlayer player, Card card, int count) {
+        if (journal != null) {
+            journal.append(type, seatOf(player), card == null ? -1 : card.getCode(), count, turn);
+        }
+    }
+
+    private int seatOf(IPlayer player) {
+        Integer seat = seatByPlayer.get(player);
+        return seat == null ? -1 : seat;
+    }
+
+    /**
+     * Gets the seat a player sits at.
+     *
+     * @param player The player.
+     * @return The seat of the player, or -1 if the player does not sit at this game.
+     */
+    public int getSeat(IPlayer player) {
+        return seatOf(player);
+    }
+
+    /**
+     * Gets the number of players in the game.
+     *
+     * @return The number of seats.
+     */
+    public int getSeatCount() {
+        return seats.length;
+    }
+
+    /**
+     * Gets the direction the turn goes round the seats in.
+     *
+     * @return 1 up the seats, -1 down them.
+     */
+    public synchronized int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Finds the seat a number of steps away in the current direction.
+     *
+     * @param seat  The seat to count from.
+     * @param steps The number of seats to move.
+     * @return The seat reached.
+     */
+    private int nextSeat(int seat, int steps) {
+        return Math.floorMod(seat + direction * steps, seats.length);
+    }
+
+    private void requireTwoSeats() {
+        if (seats.length != GameState.SEATS) {
+            throw new IllegalStateException("Only two-seat games can be saved, journaled or searched.");
+        }
     }
 
     /**
@@ -68,25 +315,24 @@ public class GameUno implements IGameUno, IGameEndSubject {
      * @return True if the card is numeric, false otherwise.
      */
     private boolean isNumericCard(Card card) {
-        try {
-            Integer.parseInt(card.getValue());
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return card.getRank().isNumeric();
     }
 
     /**
      * Allows a player to draw a specified number of cards from the deck.
+     * Once every card is in a hand or on the table, the draw ends early.
      *
      * @param player        The player who will draw cards.
      * @param numberOfCards The number of cards to draw.
      */
     @Override
-    public void eatCard(Player player, int numberOfCards) {
-        checkGameEnd();
+    public synchronized void eatCard(IPlayer player, int numberOfCards) {
         for (int i = 0; i < numberOfCards; i++) {
-            player.addCard(this.deck.takeCard());
+            Card card = takeCard(player, JournalEventType.DRAW);
+            if (card == null) {
+                return;
+            }
+            player.addCard(card);
         }
     }
 
@@ -96,57 +342,261 @@ public class GameUno implements IGameUno, IGameEndSubject {
      * @param card The card to be placed on the table.
      */
     @Override
-    public void playCard(Card card) {
+    public synchronized void playCard(Card card) {
+        placeCard(card);
+        journal(JournalEventType.PLAY, null, card, 0);
+    }
+
+    /**
+     * Places a card on the table.
+     *
+     * @param card The card to be placed on the table.
+     */
+    private void placeCard(Card card) {
         this.table.addCardOnTheTable(card);
         this.deck.addPlayedCard(card); // Add the card to the played cards
-        Platform.runLater(this::checkGameEnd);
+        turn++;
+        long now = System.nanoTime();
+        if (lastPlayNanos != 0) {
+            GameMetrics.TURN_LATENCY.record(now - lastPlayNanos);
+        }
+        lastPlayNanos = now;
+    }
+
+    /**
+     * Plays a card from a player's hand: removes it from the hand, places it on the table and applies its effect.
+     * This is the rule itself, without turn order; a player's last card ends the game.
+     *
+     * @param player The player who plays the card.
+     * @param card   The card to be played.
+     * @return True if the card skips the next seat, false otherwise.
+     * @throws IllegalStateException if the player does not hold the card or it cannot be played on the table.
+     */
+    @Override
+    public synchronized boolean playCard(IPlayer player, Card card) {
+        if (!isCardPlayable(card, table.getCurrentCardOnTheTable())) {
+            throw new IllegalStateException("The card cannot be played on the current card.");
+        }
+        if (!player.removeCard(card)) {
+            throw new IllegalStateException("The player does not hold the card.");
+        }
+        placeCard(card);
+        journal(JournalEventType.PLAY, player, card, 0);
+        boolean skipsNext = handleSpecialCards(card, player);
+        if (player.getHandSize() == 0) {
+            endGame(player);
+        }
+        return skipsNext;
+    }
+
+    /**
+     * Plays a card as the move of the seat whose turn it is. After a +2, +4 or SKIP the next seat
+     * loses its turn; otherwise the turn passes to the next seat. With two seats, a skipping card
+     * or a RESERVE keeps the turn at the seat that played it.
+     *
+     * @param player The player who plays the card.
+     * @param card   The card to be played.
+     * @return The turn state after the move.
+     * @throws IllegalStateException if it is not the player's turn, the player does not hold the card
+     *                               or it cannot be played on the table.
+     */
+    @Override
+    public synchronized TurnState playTurn(IPlayer player, Card card) {
+        int seat = requireTurn(player);
+        boolean skipsNext = playCard(player, card);
+        if (turnState.getPhase() != TurnPhase.GAME_OVER) {
+            moveTo(TurnPhase.AWAITING_MOVE, nextSeat(seat, skipsNext ? 2 : 1));
+        }
+        return turnState;
+    }
+
+    /**
+     * Draws a card as the move of the seat whose turn it is. The seat may then play a card or pass.
+     *
+     * @param player The player who draws.
+     * @return The turn state after the move.
+     * @throws IllegalStateException if it is not the player's turn or the player has already drawn.
+     */
+    @Override
+    public synchronized TurnState drawTurn(IPlayer player) {
+        int seat = requireTurn(player);
+        if (turnState.getPhase() != TurnPhase.AWAITING_MOVE) {
+            throw new IllegalStateException("The player has already drawn this turn.");
+        }
+        eatCard(player, 1);
+        moveTo(TurnPhase.DREW_CARD, seat);
+        return turnState;
+    }
+
+    /**
+     * Ends the turn of the seat whose turn it is without playing a card, once it has drawn one.
+     *
+     * @param player The player who passes.
+     * @return The turn state after the move.
+     * @throws IllegalStateException if it is not the player's turn or the player has not drawn this turn.
+     */
+    @Override
+    public synchronized TurnState passTurn(IPlayer player) {
+        int seat = requireTurn(player);
+        if (turnState.getPhase() != TurnPhase.DREW_CARD) {
+            throw new IllegalStateException("The player must draw a card before passing.");
+        }
+        journal(JournalEventType.PASS, player, null, 0);
+        moveTo(TurnPhase.AWAITING_MOVE, nextSeat(seat, 1));
+        return turnState;
+    }
+
+    /**
+     * Gets the phase of the turn and the seat it belongs to.
+     *
+     * @return The current turn state.
+     */
+    @Override
+    public synchronized TurnState getTurnState() {
+        return turnState;
+    }
+
+    /**
+     * Gets the player sitting at a seat.
+     *
+     * @param seat The seat, from 0 to {@link #getSeatCount()} - 1.
+     * @return The player at the seat.
+     */
+    public IPlayer getPlayer(int seat) {
+        return seats[seat];
+    }
+
+    private int requireTurn(IPlayer player) {
+        int seat = seatOf(player);
+        if (!turnState.isTurnOf(seat)) {
+            throw new IllegalStateException("It is not the turn of " + player.getTypePlayer() + ": " + turnState);
+        }
+        return seat;
+    }
+
+    /**
+     * Moves to a new turn state and notifies the turn observers.
+     *
+     * @throws IllegalStateException if the phase cannot follow the current one.
+     */
+    private void moveTo(TurnPhase phase, int seat) {
+        if (!turnState.getPhase().canMoveTo(phase)) {
+            throw new IllegalStateException("Illegal turn transition: " + turnState + " -> " + phase);
+        }
+        setTurnState(TurnState.of(phase, seat));
+    }
+
+    private void setTurnState(TurnState state) {
+        turnState = state;
+        for (ITurnObserver observer : turnObservers) {
+            observer.onTurnChange(state);
+        }
+    }
+
+    /**
+     * Ends the game once: journals it, then notifies the turn and game end observers.
+     * A win ends the game from any phase, also when the rules are applied without turn order.
+     *
+     * @param winner The player who has no cards left.
+     */
+    private void endGame(IPlayer winner) {
+        if (turnState.getPhase() == TurnPhase.GAME_OVER) {
+            return;
+        }
+        journal(JournalEventType.END, winner, null, 0);
+        setTurnState(TurnState.of(TurnPhase.GAME_OVER, seatOf(winner)));
+        notifyGameEndObservers(nameOf(winner));
+    }
+
+    /**
+     * Gets the name a winner is announced with: the human or the machine player, or the seat at larger tables.
+     */
+    private String nameOf(IPlayer player) {
+        if (seats.length > GameState.SEATS) {
+            return player.getTypePlayer() + " (" + (seatOf(player) + 1) + ")";
+        }
+        return seatOf(player) == GameState.HUMAN_SEAT ? "Human Player" : "Machine Player";
+    }
+
+    /**
+     * Adds an observer for the turns of the game.
+     *
+     * @param observer The observer to add.
+     */
+    public void addTurnObserver(ITurnObserver observer) {
+        turnObservers.add(observer);
+    }
+
+    /**
+     * Removes an observer for the turns of the game.
+     *
+     * @param observer The observer to remove.
+     */
+    public void removeTurnObserver(ITurnObserver observer) {
+        turnObservers.remove(observer);
+    }
+
+    /**
+     * Gets the identifier of the game, unique within the process.
+     *
+     * @return the identifier of the game.
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Gets the number of cards played on the table so far.
+     *
+     * @return the current turn of the game.
+     */
+    public synchronized int getTurn() {
+        return turn;
     }
 
     /**
      * Handles special cards like +2, +4, SKIP, and REVERSE.
+     * A +2 or +4 makes the next seat draw and lose its turn, a SKIP makes it lose its turn,
+     * and a RESERVE flips the direction of play; with two seats a RESERVE acts as a SKIP.
      *
      * @param card   The card to handle.
      * @param player The player who played the card.
-     * @return True if the card is a special card that requires a turn change, false otherwise.
-     */
-    public boolean handleSpecialCards(Card card, Player player) {
-        switch (card.getValue()) {
-            case "+2" -> {
-                if (player.equals(humanPlayer)) {
-                    eatCard(machinePlayer, 2);
-                    System.out.println("Human Player hace comer +2 a la máquina.");
-                } else {
-                    eatCard(humanPlayer, 2);
-                    System.out.println("Machine Player hace comer +2 a la persona.");
-
-                }
-                checkGameEnd();
+     * @return True if the card skips the next seat, false otherwise.
+     */
+    public synchronized boolean handleSpecialCards(Card card, IPlayer player) {
+        switch (card.getRank()) {
+            case TWO_WILD_DRAW -> {
+                makeNextSeatDraw(card, player, 2);
                 return true;
             }
-            case "+4" -> {
-                if (player.equals(humanPlayer)) {
-                    eatCard(machinePlayer, 4);
-                    System.out.println("Human Player hace comer +4 a la máquina.");
-
-                } else {
-                    eatCard(humanPlayer, 4);
-                    System.out.println("Machine Player hace comer +4 a la persona.");
-
-                }
-                checkGameEnd();
+            case FOUR_WILD_DRAW -> {
+                makeNextSeatDraw(card, player, 4);
                 return true;
             }
-            case "SKIP", "RESERVE" -> {
-                checkGameEnd();
+            case SKIP -> {
                 return true;
             }
+            case RESERVE -> {
+                direction = -direction;
+                return seats.length == GameState.SEATS;
+            }
             default -> {
-                checkGameEnd();
                 return false;
             }
         }
     }
 
+    /**
+     * Makes the seat after a player draw the penalty of a +2 or +4.
+     */
+    private void makeNextSeatDraw(Card card, IPlayer player, int count) {
+        IPlayer victim = seats[nextSeat(seatOf(player), 1)];
+        journal(JournalEventType.EFFECT, victim, card, count);
+        eatCard(victim, count);
+        LOG.debug(gameId, turn, victim.getTypePlayer(), card, victim.getHandSize(),
+                player.getTypePlayer() + " hace comer +" + count + " a " + victim.getTypePlayer() + ".");
+    }
+
     /**
      * Checks if a card can be played on top of another card.
      *
@@ -155,54 +605,186 @@ public class GameUno implements IGameUno, IGameEndSubject {
      * @return True if the card can be played, false otherwise.
      */
     public boolean isCardPlayable(Card card, Card topCard) {
-        // Allow playing any card if the top card is NON_COLOR
-        if (topCard.getColor().equals("NON_COLOR") || card.getColor().equals("NON_COLOR")) {
-            return true;
+        // Wild cards match anything; otherwise the color or the value must match
+        return Card.isPlayable(card.getCode(), topCard.getCode());
+    }
+
+    /**
+     * Finds a card of the player's hand that can be played on the table, preferring wild cards.
+     *
+     * @param player The player whose hand is searched.
+     * @return A playable card, or null if the player has none.
+     */
+    public synchronized Card findPlayableCard(IPlayer player) {
+        Card card = player.findCard(Card.colorMask(CardColor.NON_COLOR));
+        if (card == null) {
+            card = player.findCard(Card.playableMask(table.getCurrentCardOnTheTable().getCode()));
         }
-        return card.getColor().equals(topCard.getColor()) || card.getValue().equals(topCard.getValue());
+        return card;
+    }
+
+    /**
+     * Retrieves the card on top of the table.
+     *
+     * @return The card currently on the table.
+     */
+    public synchronized Card getTopCard() {
+        return table.getCurrentCardOnTheTable();
+    }
+
+    /**
+     * Retrieves the number of cards in a player's hand.
+     *
+     * @param player The player whose cards are counted.
+     * @return The number of cards in the player's hand.
+     */
+    public synchronized int getHandSize(IPlayer player) {
+        return player.getHandSize();
+    }
+
+    /**
+     * Takes an immutable snapshot of the game, e.g. for look-ahead search.
+     * The human player sits at {@link GameState#HUMAN_SEAT} and the machine at {@link GameState#MACHINE_SEAT}.
+     *
+     * @param currentSeat The seat whose turn it is.
+     * @param seed        The seed of the snapshot's next shuffle.
+     * @return The state of the game.
+     * @throws IllegalStateException if the game does not have two seats.
+     */
+    public synchronized GameState snapshot(int currentSeat, long seed) {
+        requireTwoSeats();
+        byte[][] hands = new byte[GameState.SEATS][];
+        hands[GameState.HUMAN_SEAT] = codesOf(seats[GameState.HUMAN_SEAT]);
+        hands[GameState.MACHINE_SEAT] = codesOf(seats[GameState.MACHINE_SEAT]);
+        return GameState.of(hands, deck.getCardCodes(), discardCodes(), currentSeat, seed);
+    }
+
+    /**
+     * Takes a snapshot of the game to resume it later with {@link #resumeGame(GameSnapshot)}.
+     * The UNO flags belong to the caller, which tracks the calls.
+     *
+     * @param humanCanSingUno   Whether the human player may still call UNO.
+     * @param machineCanSingUno Whether the machine player may still call UNO.
+     * @param seed              The seed of the resumed game's generator.
+     * @return The snapshot of the game.
+     * @throws IllegalStateException if the game does not have two seats.
+     */
+    public synchronized GameSnapshot saveSnapshot(boolean humanCanSingUno, boolean machineCanSingUno, long seed) {
+        requireTwoSeats();
+        return new GameSnapshot(codesOf(seats[GameState.HUMAN_SEAT]), codesOf(seats[GameState.MACHINE_SEAT]),
+                deck.getCardCodes(), discardCodes(), turnState.getCurrentSeat(), turnState.getPhase(), turn,
+                humanCanSingUno, machineCanSingUno, seed);
     }
 
     /**
-     * Handles the scenario when a player shouts "Uno", forcing the other player to draw a card.
+     * Resumes a saved game instead of starting a new one: deals the saved hands and puts the saved card
+     * on the table, then hands the turn to the saved seat in the saved phase, so a seat that had drawn may
+     * only play or pass. The deck of this game must have been built from the same snapshot.
      *
-     * @param playerWhoSang The player who shouted "Uno".
+     * @param snapshot The snapshot of the game.
+     * @throws IllegalStateException if the game does not have two seats or has already started.
+     */
+    public synchronized void resumeGame(GameSnapshot snapshot) {
+        requireTwoSeats();
+        if (turnState.getPhase() != TurnPhase.NOT_STARTED) {
+            throw new IllegalStateException("The game has already started.");
+        }
+        for (byte code : snapshot.getHumanHand()) {
+            seats[GameState.HUMAN_SEAT].addCard(DeckComposition.cardOf(code));
+        }
+        for (byte code : snapshot.getMachineHand()) {
+            seats[GameState.MACHINE_SEAT].addCard(DeckComposition.cardOf(code));
+        }
+        table.addCardOnTheTable(DeckComposition.cardOf(snapshot.getTopCard()));
+        turn = snapshot.getTurn();
+        setTurnState(TurnState.of(snapshot.getTurnPhase(), snapshot.getCurrentSeat())); // Restored, not played
+    }
+
+    /**
+     * Gets the codes of the discard pile, ending with the card on the table.
+     */
+    private byte[] discardCodes() {
+        byte[] discard = deck.getPlayedCardCodes();
+        int topCode = table.getCurrentCardOnTheTable().getCode();
+        if (discard.length == 0 || discard[discard.length - 1] != topCode) {
+            discard = Arrays.copyOf(discard, discard.length + 1);
+            discard[discard.length - 1] = (byte) topCode;
+        }
+        return discard;
+    }
+
+    private static byte[] codesOf(IPlayer player) {
+        byte[] codes = new byte[player.getHandSize()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = player.getCard(i).getCode();
+        }
+        return codes;
+    }
+
+    /**
+     * Handles the scenario when a player shouts "Uno" on another player left with one card,
+     * forcing that player to draw a card.
+     *
+     * @param singerSeat The seat of the player who shouted "Uno".
+     * @param caughtSeat The seat of the player caught with one card.
+     * @return True if the caught player had one card and was penalized, false otherwise.
      */
     @Override
-    public void haveSungOne(String playerWhoSang) {
-        if (playerWhoSang.equals("HUMAN_PLAYER")) {
-            machinePlayer.addCard(this.deck.takeCard());
-        } else {
-            humanPlayer.addCard(this.deck.takeCard());
+    public synchronized boolean haveSungOne(int singerSeat, int caughtSeat) {
+        IPlayer caught = seats[caughtSeat];
+        if (singerSeat == caughtSeat || caught.getHandSize() != 1) {
+            return false;
         }
+        journal(JournalEventType.SING, seats[singerSeat], null, 1);
+        eatCard(caught, 1);
+        return true;
     }
 
     /**
-     * Retrieves the current visible cards of the human player starting from a specific position.
+     * Retrieves the current visible cards of a player starting from a specific position.
      *
+     * @param player            The player whose cards are shown.
      * @param posInitCardToShow The initial position of the cards to show.
-     * @return An array of cards visible to the human player.
+     * @return An array of cards visible to the player.
      */
     @Override
-    public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
-        int totalCards = this.humanPlayer.getCardsPlayer().size();
+    public synchronized Card[] getCurrentVisibleCards(IPlayer player, int posInitCardToShow) {
+        int totalCards = player.getHandSize();
         int numVisibleCards = Math.min(4, totalCards - posInitCardToShow);
         Card[] cards = new Card[numVisibleCards];
 
         for (int i = 0; i < numVisibleCards; i++) {
-            cards[i] = this.humanPlayer.getCard(posInitCardToShow + i);
+            cards[i] = player.getCard(posInitCardToShow + i);
         }
 
         return cards;
     }
 
+    /**
+     * Retrieves the current visible cards of the human player at {@link GameState#HUMAN_SEAT}
+     * starting from a specific position.
+     *
+     * @param posInitCardToShow The initial position of the cards to show.
+     * @return An array of cards visible to the human player.
+     */
+    @Override
+    public synchronized Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
+        return getCurrentVisibleCards(seats[GameState.HUMAN_SEAT], posInitCardToShow);
+    }
+
     /**
      * Checks if the game is over.
      *
-     * @return True if the deck is empty, indicating the game is over; otherwise, false.
+     * @return True if a player has no cards left, indicating the game is over; otherwise, false.
      */
     @Override
-    public Boolean isGameOver() {
-        return humanPlayer.getCardsPlayer().isEmpty() || machinePlayer.getCardsPlayer().isEmpty();
+    public synchronized Boolean isGameOver() {
+        for (IPlayer player : seats) {
+            if (player.getHandSize() == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -238,12 +820,21 @@ public class GameUno implements IGameUno, IGameEndSubject {
     }
 
     /**
-     * Checks if the game has ended and notifies observers if it has.
+     * Splits a new generator off the game's generator, so each machine thread draws from its own
+     * generator without contention while the whole game stays reproducible from one seed.
+     *
+     * @return a new generator
      */
-    private void checkGameEnd() {
-        if (isGameOver()) {
-            String winner = humanPlayer.getCardsPlayer().isEmpty() ? "Human Player" : "Machine Player";
-            notifyGameEndObservers(winner);
-        }
+    public synchronized SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Gets the executor that runs deferred checks and UI callbacks for this game.
+     *
+     * @return the callback executor of the game
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
     }
 }
@@ -0,0 +1,56 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * An immutable hand stored as the number of copies of each card code.
+ * Adding or removing a card copies the small count vector and keeps the mask of held codes up to date,
+ * so a hand can be searched with the masks of {@link Card} without iterating.
+ */
+final class HandCounts {
+    static final HandCounts EMPTY = new HandCounts(new byte[Card.CODE_COUNT], 0L, 0);
+
+    private final byte[] counts;
+    private final long mask;
+    private final int size;
+
+    private HandCounts(byte[] counts, long mask, int size) {
+        this.counts = counts;
+        this.mask = mask;
+        this.size = size;
+    }
+
+    HandCounts with(int code) {
+        byte[] copy = counts.clone();
+        copy[code]++;
+        return new HandCounts(copy, mask | 1L << code, size + 1);
+    }
+
+    /**
+     * Gets the hand without one copy of a card.
+     *
+     * @param code the code of the card to remove
+     * @return the new hand
+     * @throws IllegalStateException if the hand does not hold the card
+     */
+    HandCounts without(int code) {
+        if (counts[code] == 0) {
+            throw new IllegalStateException("The hand does not hold the card.");
+        }
+        byte[] copy = counts.clone();
+        long newMask = --copy[code] == 0 ? mask & ~(1L << code) : mask;
+        return new HandCounts(copy, newMask, size - 1);
+    }
+
+    int count(int code) {
+        return counts[code];
+    }
+
+    long mask() {
+        return mask;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.eiscuno.model.game;
 
 import org.example.eiscuno.model.card.Card;
-import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.player.IPlayer;
 
 /**
  * Interface representing the Uno game functionality.
@@ -19,7 +19,7 @@ public interface IGameUno {
      * @param player the player who will draw the cards
      * @param numberOfCards the number of cards to be drawn
      */
-    void eatCard(Player player, int numberOfCards);
+    void eatCard(IPlayer player, int numberOfCards);
 
     /**
      * Plays a card in the game, adding it to the table.
@@ -29,11 +29,63 @@ public interface IGameUno {
     void playCard(Card card);
 
     /**
-     * Handles the action when a player shouts "Uno".
+     * Plays a card from a player's hand, adding it to the table and applying its effect.
      *
-     * @param playerWhoSang the identifier of the player who shouted "Uno"
+     * @param player the player who plays the card
+     * @param card the card to be played
+     * @return true if the card requires an additional turn, false otherwise
+     */
+    boolean playCard(IPlayer player, Card card);
+
+    /**
+     * Plays a card as the move of the player whose turn it is.
+     *
+     * @param player the player who plays the card
+     * @param card the card to be played
+     * @return the turn state after the move
+     */
+    TurnState playTurn(IPlayer player, Card card);
+
+    /**
+     * Draws a card as the move of the player whose turn it is.
+     *
+     * @param player the player who draws
+     * @return the turn state after the move
+     */
+    TurnState drawTurn(IPlayer player);
+
+    /**
+     * Ends the turn of the player whose turn it is, after the player has drawn a card.
+     *
+     * @param player the player who passes
+     * @return the turn state after the move
+     */
+    TurnState passTurn(IPlayer player);
+
+    /**
+     * Retrieves the phase of the turn and the seat it belongs to.
+     *
+     * @return the current turn state
+     */
+    TurnState getTurnState();
+
+    /**
+     * Handles the action when a player shouts "Uno" on another player left with one card.
+     *
+     * @param singerSeat the seat of the player who shouted "Uno"
+     * @param caughtSeat the seat of the player caught with one card, who draws a card
+     * @return true if the caught player had one card and was penalized, false otherwise
+     */
+    boolean haveSungOne(int singerSeat, int caughtSeat);
+
+    /**
+     * Retrieves the current visible cards of a player starting from a specific position.
+     *
+     * @param player            the player whose cards are shown
+     * @param posInitCardToShow the starting position of the cards to be shown
+     * @return an array of cards that are currently visible to the player
      */
-    void haveSungOne(String playerWhoSang);
+    Card[] getCurrentVisibleCards(IPlayer player, int posInitCardToShow);
 
     /**
      * Retrieves the current visible cards of the human player starting from a specific position.
@@ -66,5 +118,5 @@ public interface IGameUno {
      * @param player the player who played the card
      * @return true if the card requires an additional turn, false otherwise
      */
-    boolean handleSpecialCards(Card card, Player player);
+    boolean handleSpecialCards(Card card, IPlayer player);
 }
@@ -0,0 +1,15 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Interface for observing the turns of a game.
+ */
+public interface ITurnObserver {
+
+    /**
+     * Called after each command that changes the turn, while the game lock is still held.
+     * Observers must not block; they typically schedule work on another thread.
+     *
+     * @param state the new turn state
+     */
+    void onTurnChange(TurnState state);
+}
@@ -0,0 +1,101 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * Represents a move that can be applied to a {@link GameState}.
+ * Moves are immutable and interned, so generating the legal moves of a position allocates nothing.
+ */
+public final class Move {
+
+    /**
+     * The kinds of moves of the game.
+     */
+    public enum Type {
+        /** Plays a card from the hand. */
+        PLAY,
+        /** Draws a card from the deck and ends the turn. */
+        DRAW,
+        /** Catches the opponent with a single card who has not sung UNO, making them draw a card. */
+        CATCH_UNO
+    }
+
+    private static final Move[][] PLAYS = new Move[GameState.SEATS][Card.CODE_COUNT];
+    private static final Move[] DRAWS = new Move[GameState.SEATS];
+    private static final Move[] CATCHES = new Move[GameState.SEATS];
+
+    static {
+        for (int seat = 0; seat < GameState.SEATS; seat++) {
+            for (int code = 0; code < Card.CODE_COUNT; code++) {
+                PLAYS[seat][code] = new Move(Type.PLAY, seat, code);
+            }
+            DRAWS[seat] = new Move(Type.DRAW, seat, -1);
+            CATCHES[seat] = new Move(Type.CATCH_UNO, seat, -1);
+        }
+    }
+
+    private final Type type;
+    private final int seat;
+    private final int code;
+
+    private Move(Type type, int seat, int code) {
+        this.type = type;
+        this.seat = seat;
+        this.code = code;
+    }
+
+    /**
+     * Gets the move playing a card.
+     *
+     * @param seat the seat of the player
+     * @param code the code of the card to play
+     * @return the move
+     */
+    public static Move play(int seat, int code) {
+        return PLAYS[seat][code];
+    }
+
+    /**
+     * Gets the move drawing a card.
+     *
+     * @param seat the seat of the player
+     * @return the move
+     */
+    public static Move draw(int seat) {
+        return DRAWS[seat];
+    }
+
+    /**
+     * Gets the move catching the opponent who has not sung UNO.
+     *
+     * @param seat the seat of the player who catches the opponent
+     * @return the move
+     */
+    public static Move catchUno(int seat) {
+        return CATCHES[seat];
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the code of the played card.
+     *
+     * @return the code of the card, or -1 if the move does not play a card
+     */
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.PLAY
+                ? "PLAY " + Card.rankOf(code).getValue() + " " + Card.colorOf(code) + " (seat " + seat + ")"
+                : type + " (seat " + seat + ")";
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * The phases of a turn in a game of Uno.
+ * <pre>
+ * NOT_STARTED --start--> AWAITING_MOVE --draw--> DREW_CARD
+ *                        AWAITING_MOVE --play--> AWAITING_MOVE (same seat after a special card)
+ *                        DREW_CARD --play or pass--> AWAITING_MOVE
+ *                        AWAITING_MOVE, DREW_CARD --last card played--> GAME_OVER
+ * </pre>
+ */
+public enum TurnPhase {
+    /** The cards have not been dealt yet. */
+    NOT_STARTED,
+    /** The current seat must play a card or draw one. */
+    AWAITING_MOVE,
+    /** The current seat has drawn a card and may play a card or pass. */
+    DREW_CARD,
+    /** A player has no cards left. */
+    GAME_OVER;
+
+    /**
+     * Checks if the current seat can act in this phase.
+     *
+     * @return true if a card can be played or the turn passed, false otherwise
+     */
+    public boolean isInPlay() {
+        return this == AWAITING_MOVE || this == DREW_CARD;
+    }
+
+    /**
+     * Checks if a phase may follow this one.
+     *
+     * @param next the next phase
+     * @return true if the transition is legal, false otherwise
+     */
+    public boolean canMoveTo(TurnPhase next) {
+        return switch (this) {
+            case NOT_STARTED -> next == AWAITING_MOVE;
+            case AWAITING_MOVE -> next != NOT_STARTED; // Back to AWAITING_MOVE only by playing a card
+            case DREW_CARD -> next == AWAITING_MOVE || next == GAME_OVER;
+            case GAME_OVER -> false;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * The phase of the turn and the seat it belongs to, as kept by {@link GameUno}.
+ * States are interned, so moving from one to another never allocates.
+ */
+public final class TurnState {
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+    private static final TurnState[][] STATES = new TurnState[PHASES.length][GameUno.MAX_PLAYERS];
+
+    static {
+        for (TurnPhase phase : PHASES) {
+            for (int seat = 0; seat < GameUno.MAX_PLAYERS; seat++) {
+                STATES[phase.ordinal()][seat] = new TurnState(phase, seat);
+            }
+        }
+    }
+
+    /** The state of a game before the deal. */
+    public static final TurnState NOT_STARTED = of(TurnPhase.NOT_STARTED, GameState.HUMAN_SEAT);
+
+    private final TurnPhase phase;
+    private final int currentSeat;
+
+    private TurnState(TurnPhase phase, int currentSeat) {
+        this.phase = phase;
+        this.currentSeat = currentSeat;
+    }
+
+    /**
+     * Gets a turn state.
+     *
+     * @param phase       the phase of the turn
+     * @param currentSeat the seat whose turn it is, or the winner once the game is over
+     * @return the state
+     */
+    public static TurnState of(TurnPhase phase, int currentSeat) {
+        return STATES[phase.ordinal()][currentSeat];
+    }
+
+    public TurnPhase getPhase() {
+        return phase;
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Checks if a seat may act now.
+     *
+     * @param seat the seat
+     * @return true if the turn is in play and belongs to the seat, false otherwise
+     */
+    public boolean isTurnOf(int seat) {
+        return phase.isInPlay() && currentSeat == seat;
+    }
+
+    @Override
+    public String toString() {
+        return phase + "(" + currentSeat + ")";
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.eiscuno.model.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends the state transitions of a game to a memory-mapped file as fixed-width binary records.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number, the format version, the
+ * record size, the game id and the number of records written. Each record takes {@value #RECORD_SIZE} bytes:
+ * the time in milliseconds since the epoch (long), the turn (int), then the type, seat, card code and count
+ * (one byte each, -1 when not used). The record count in the header is updated after each record, so a
+ * journal cut short by a crash still reads up to its last complete record.
+ * <p>
+ * A journal has a single writer: {@link org.example.eiscuno.model.game.GameUno} appends to it while holding
+ * the game lock.
+ */
+public final class GameJournal implements Closeable {
+    static final int MAGIC = 0x45554E4A; // "EUNJ"
+    static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 16;
+    static final int GAME_ID_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+    private static final int RECORDS_PER_CHUNK = 4096;
+    private static final long CHUNK_SIZE = (long) RECORDS_PER_CHUNK * RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer chunk;
+    private long chunkIndex = -1;
+    private long recordCount;
+
+    private GameJournal(FileChannel channel, long gameId) throws IOException {
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putShort(6, (short) RECORD_SIZE);
+        header.putLong(GAME_ID_OFFSET, gameId);
+        header.putLong(COUNT_OFFSET, 0);
+    }
+
+    /**
+     * Creates a journal, replacing any file at the same path.
+     *
+     * @param file   the file of the journal
+     * @param gameId the identifier of the game written to the header
+     * @return the journal, empty
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static GameJournal create(Path file, long gameId) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new GameJournal(channel, gameId);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param type  the type of the record
+     * @param seat  the seat concerned, or -1
+     * @param code  the code of the card concerned, or -1
+     * @param count the number of cards concerned, or 0
+     * @param turn  the turn of the game
+     * @throws UncheckedIOException if the file cannot grow
+     */
+    public void append(JournalEventType type, int seat, int code, int count, int turn) {
+        long index = recordCount / RECORDS_PER_CHUNK;
+        if (index != chunkIndex) {
+            mapChunk(index);
+        }
+        int offset = (int) (recordCount % RECORDS_PER_CHUNK) * RECORD_SIZE;
+        chunk.putLong(offset, System.currentTimeMillis());
+        chunk.putInt(offset + 8, turn);
+        chunk.put(offset + 12, (byte) type.ordinal());
+        chunk.put(offset + 13, (byte) seat);
+        chunk.put(offset + 14, (byte) code);
+        chunk.put(offset + 15, (byte) count);
+        header.putLong(COUNT_OFFSET, ++recordCount);
+    }
+
+    private void mapChunk(long index) {
+        try {
+            chunk = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + index * CHUNK_SIZE, CHUNK_SIZE);
+            chunkIndex = index;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes the mapped records to the storage device and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (chunk != null) {
+            chunk.force();
+        }
+        header.force();
+        channel.close();
+    }
+}
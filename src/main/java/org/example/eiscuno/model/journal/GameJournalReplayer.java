@@ -0,0 +1,209 @@
+package org.example.eiscuno.model.journal;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.game.GameState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Rebuilds the state of a game from its {@link GameJournal}.
+ * The journal is mapped read-only and its records are applied to plain arrays of card codes, so a game
+ * of any length replays in microseconds without creating players, cards or a UI. Draws are checked
+ * against the recorded deck, which catches a journal that does not match the game it claims to describe.
+ */
+public final class GameJournalReplayer {
+    private final ByteBuffer records;
+    private final long gameId;
+    private final long recordCount;
+
+    private byte[] deck = new byte[2 * Card.CODE_COUNT];
+    private int deckSize;
+    private byte[] discard = new byte[2 * Card.CODE_COUNT];
+    private int discardSize;
+    private final int[][] hands = new int[GameState.SEATS][Card.CODE_COUNT];
+    private int currentSeat = GameState.HUMAN_SEAT;
+
+    private GameJournalReplayer(ByteBuffer journal) {
+        if (journal.limit() < GameJournal.HEADER_SIZE || journal.getInt(0) != GameJournal.MAGIC) {
+            throw new IllegalArgumentException("The file is not a game journal.");
+        }
+        if (journal.getShort(4) != GameJournal.VERSION || journal.getShort(6) != GameJournal.RECORD_SIZE) {
+            throw new IllegalArgumentException("Unsupported game journal version: " + journal.getShort(4));
+        }
+        this.gameId = journal.getLong(GameJournal.GAME_ID_OFFSET);
+        long count = journal.getLong(GameJournal.COUNT_OFFSET);
+        this.recordCount = Math.min(count, (journal.limit() - GameJournal.HEADER_SIZE) / GameJournal.RECORD_SIZE);
+        this.records = journal.position(GameJournal.HEADER_SIZE).slice();
+    }
+
+    /**
+     * Maps a journal read-only.
+     *
+     * @param file the file of the journal
+     * @return a replayer of the journal
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a game journal
+     */
+    public static GameJournalReplayer open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new GameJournalReplayer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Rebuilds the state of a game at the end of its journal.
+     *
+     * @param file the file of the journal
+     * @return the state of the game, with 0 as the seed of its next shuffle
+     * @throws IOException if the file cannot be read
+     */
+    public static GameState replay(Path file) throws IOException {
+        GameJournalReplayer replayer = open(file);
+        return replayer.replay(replayer.getRecordCount());
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Rebuilds the state of the game after its first records.
+     *
+     * @param count the number of records to apply, at least up to the TOP record
+     * @return the state of the game, with 0 as the seed of its next shuffle
+     * @throws IllegalArgumentException if the records end before the first card is on the table
+     * @throws IllegalStateException    if a record contradicts the ones before it
+     */
+    public GameState replay(long count) {
+        reset();
+        long limit = Math.min(count, recordCount);
+        for (long i = 0; i < limit; i++) {
+            int offset = (int) (i * GameJournal.RECORD_SIZE);
+            apply(JournalEventType.fromOrdinal(records.get(offset + 12)), records.get(offset + 13),
+                    records.get(offset + 14), i);
+        }
+        byte[][] handCodes = new byte[GameState.SEATS][];
+        for (int seat = 0; seat < GameState.SEATS; seat++) {
+            handCodes[seat] = codesOf(hands[seat]);
+        }
+        return GameState.of(handCodes, Arrays.copyOf(deck, deckSize), Arrays.copyOf(discard, discardSize),
+                currentSeat, 0);
+    }
+
+    private void reset() {
+        deckSize = 0;
+        discardSize = 0;
+        for (int[] hand : hands) {
+            Arrays.fill(hand, 0);
+        }
+        currentSeat = GameState.HUMAN_SEAT;
+    }
+
+    private void apply(JournalEventType type, int seat, int code, long index) {
+        switch (type) {
+            case DECK -> {
+                deck = ensureCapacity(deck, deckSize);
+                deck[deckSize++] = (byte) code;
+            }
+            case DEAL, DRAW -> hands[seat][takeFromDeck(code, index)]++;
+            case BURN, TOP -> discard(takeFromDeck(code, index));
+            case PLAY -> {
+                if (seat >= 0) {
+                    if (hands[seat][code] == 0) {
+                        throw new IllegalStateException("Record " + index + " plays a card the seat does not hold.");
+                    }
+                    hands[seat][code]--;
+                    currentSeat = keepsTurn(Card.rankOf((byte) code)) ? seat : GameState.opponentOf(seat);
+                }
+                discard(code);
+            }
+            case PASS -> currentSeat = GameState.opponentOf(seat);
+            case RECYCLE -> {
+                discard[0] = discard[discardSize - 1]; // Only the card on the table stays
+                discardSize = 1;
+                deckSize = 0;
+            }
+            case EFFECT, SING, END -> {
+            }
+        }
+    }
+
+    private int takeFromDeck(int code, long index) {
+        if (deckSize == 0 || deck[deckSize - 1] != code) {
+            throw new IllegalStateException("Record " + index + " draws a card that is not on top of the deck.");
+        }
+        deckSize--;
+        return code;
+    }
+
+    private void discard(int code) {
+        discard = ensureCapacity(discard, discardSize);
+        discard[discardSize++] = (byte) code;
+    }
+
+    private static byte[] ensureCapacity(byte[] codes, int size) {
+        return size < codes.length ? codes : Arrays.copyOf(codes, codes.length * 2);
+    }
+
+    private static boolean keepsTurn(CardRank rank) {
+        return switch (rank) {
+            case TWO_WILD_DRAW, FOUR_WILD_DRAW, SKIP, RESERVE -> true;
+            default -> false;
+        };
+    }
+
+    private static byte[] codesOf(int[] counts) {
+        int size = 0;
+        for (int count : counts) {
+            size += count;
+        }
+        byte[] codes = new byte[size];
+        int next = 0;
+        for (int code = 0; code < counts.length; code++) {
+            for (int i = 0; i < counts[code]; i++) {
+                codes[next++] = (byte) code;
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Prints the records of a journal, one per line, followed by the final state.
+     *
+     * @param args the path of the journal
+     * @throws IOException if the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: GameJournalReplayer <diario>");
+            System.exit(2);
+        }
+        GameJournalReplayer replayer = open(Path.of(args[0]));
+        System.out.println("Partida " + replayer.getGameId() + ", " + replayer.getRecordCount() + " registros");
+        ByteBuffer records = replayer.records;
+        for (long i = 0; i < replayer.getRecordCount(); i++) {
+            int offset = (int) (i * GameJournal.RECORD_SIZE);
+            int code = records.get(offset + 14);
+            System.out.println(Instant.ofEpochMilli(records.getLong(offset)) + " turn=" + records.getInt(offset + 8)
+                    + " " + JournalEventType.fromOrdinal(records.get(offset + 12))
+                    + " seat=" + records.get(offset + 13)
+                    + (code >= 0 ? " card=" + Card.rankOf((byte) code).getValue() + " " + Card.colorOf((byte) code) : "")
+                    + " count=" + records.get(offset + 15));
+        }
+        GameState state = replayer.replay(replayer.getRecordCount());
+        System.out.println("Mano humana: " + state.getHandSize(GameState.HUMAN_SEAT)
+                + ", mano máquina: " + state.getHandSize(GameState.MACHINE_SEAT)
+                + ", turno de: " + state.getCurrentSeat());
+    }
+}
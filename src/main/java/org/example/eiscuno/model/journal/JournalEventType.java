@@ -0,0 +1,45 @@
+package org.example.eiscuno.model.journal;
+
+/**
+ * The kinds of record in a game journal. The ordinal is written to the file, so constants are only ever appended.
+ */
+public enum JournalEventType {
+    /** A card of the deck before the deal or after a recycle, from the bottom to the card drawn next. */
+    DECK,
+    /** A card dealt to a seat at the start of the game. */
+    DEAL,
+    /** A special card turned over at the start and put on the discard pile. */
+    BURN,
+    /** The numeric card turned over to start the game. */
+    TOP,
+    /** A card played by a seat, or put on the table by the game when the seat is -1. */
+    PLAY,
+    /** A card drawn by a seat. */
+    DRAW,
+    /** A +2 or +4 making a seat draw; the count is the number of cards. */
+    EFFECT,
+    /** A seat calling UNO, which makes the other seat draw. */
+    SING,
+    /** The played cards shuffled back into the deck; the new deck follows as DECK records. */
+    RECYCLE,
+    /** The end of the game; the seat is the winner. */
+    END,
+    /** A seat ending its turn without playing a card. */
+    PASS;
+
+    private static final JournalEventType[] VALUES = values();
+
+    /**
+     * Gets the type written as a byte.
+     *
+     * @param ordinal the byte read from the journal
+     * @return the type
+     * @throws IllegalArgumentException if no type has this ordinal
+     */
+    public static JournalEventType fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown journal record type: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.log.GameLogger;
+import org.example.eiscuno.log.LogLevel;
+import org.example.eiscuno.model.game.IGameEndObserver;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules the timed tasks of one game (machine moves, UNO calls and attack windows)
+ * on a small executor shared by every game of the process.
+ * Every task still pending is cancelled when the game ends or the scheduler is shut down,
+ * so no game ever creates threads of its own. The scheduler also accounts for the tasks of its game
+ * and the time they spent running. A task that throws is logged, since nobody reads the futures.
+ */
+public class GameScheduler implements IGameEndObserver {
+    private static final GameLogger LOG = GameLogger.getLogger(GameScheduler.class);
+    private static final ScheduledExecutorService SHARED_EXECUTOR = createSharedExecutor();
+
+    private final ScheduledExecutorService executor;
+    private final MachineDelays delays;
+    private final Set<Future<?>> pendingTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+    private final LongAdder scheduledTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    /**
+     * Constructs a new GameScheduler on the shared executor.
+     *
+     * @param delays the delays used by the machine player and the UNO timers
+     */
+    public GameScheduler(MachineDelays delays) {
+        this(SHARED_EXECUTOR, delays);
+    }
+
+    /**
+     * Constructs a new GameScheduler on the given executor.
+     *
+     * @param executor the executor running the tasks
+     * @param delays   the delays used by the machine player and the UNO timers
+     */
+    public GameScheduler(ScheduledExecutorService executor, MachineDelays delays) {
+        this.executor = executor;
+        this.delays = delays;
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task        the task to run
+     * @param delayMillis the delay in milliseconds, zero to run as soon as possible
+     * @return the future of the task, or null if the scheduler has already been shut down
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delayMillis) {
+        if (shutdown) {
+            return null;
+        }
+        pendingTasks.removeIf(Future::isDone);
+        ScheduledFuture<?> future = executor.schedule(() -> {
+            if (!shutdown) {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOG.log(LogLevel.ERROR, -1, -1, null, null, -1, "Falló una tarea programada: " + e);
+                } finally {
+                    busyNanos.add(System.nanoTime() - start);
+                    executedTasks.increment();
+                }
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        pendingTasks.add(future);
+        scheduledTasks.increment();
+        return future;
+    }
+
+    /**
+     * Cancels every pending task and rejects any further one.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Future<?> task : pendingTasks) {
+            task.cancel(false);
+        }
+        pendingTasks.clear();
+    }
+
+    /**
+     * Counts the tasks that are scheduled and have not run yet.
+     *
+     * @return the number of pending tasks
+     */
+    public int getPendingTaskCount() {
+        pendingTasks.removeIf(Future::isDone);
+        return pendingTasks.size();
+    }
+
+    /**
+     * Counts the tasks scheduled since the scheduler was created.
+     *
+     * @return the number of scheduled tasks
+     */
+    public long getScheduledTaskCount() {
+        return scheduledTasks.sum();
+    }
+
+    /**
+     * Counts the tasks that have run since the scheduler was created.
+     *
+     * @return the number of executed tasks
+     */
+    public long getExecutedTaskCount() {
+        return executedTasks.sum();
+    }
+
+    /**
+     * Gets the total time the tasks of this scheduler spent running.
+     *
+     * @return the running time in nanoseconds
+     */
+    public long getBusyTimeNanos() {
+        return busyNanos.sum();
+    }
+
+    public MachineDelays getDelays() {
+        return delays;
+    }
+
+    /**
+     * Checks if the scheduler has been shut down.
+     *
+     * @return true if no more tasks are accepted, false otherwise
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Handles the game end event by cancelling every pending task.
+     *
+     * @param winner the winner of the game
+     */
+    @Override
+    public void onGameEnd(String winner) {
+        shutdown();
+    }
+
+    private static ScheduledExecutorService createSharedExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(poolSize, task -> {
+            Thread thread = new Thread(task, "GameScheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true); // Cancelled timers leave the queue at once
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.Move;
+
+/**
+ * The default strategy of the machine player: plays a wild card if it has one, otherwise the first
+ * playable card, and draws a card when nothing can be played.
+ */
+public class GreedyStrategy implements MachineStrategy {
+    private static final long WILD_MASK = Card.colorMask(CardColor.NON_COLOR);
+
+    @Override
+    public Move chooseMove(GameState state, long thinkTimeMillis) {
+        int seat = state.getCurrentSeat();
+        long playable = state.getPlayableMask();
+        if (playable == 0) {
+            return Move.draw(seat);
+        }
+        long wilds = playable & WILD_MASK;
+        return Move.play(seat, Long.numberOfTrailingZeros(wilds != 0 ? wilds : playable));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.eiscuno.model.machine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Holds the delays, in milliseconds, used by the machine player and the UNO timers.
+ * The random delays are drawn uniformly between their minimum and maximum, from the caller's generator.
+ */
+public class MachineDelays {
+    /**
+     * The delays of the graphical game: 2 s per move and 2 to 5 s for the UNO calls and attack windows.
+     */
+    public static final MachineDelays DEFAULT = new MachineDelays(2000, 2000, 2000, 5000, 2000, 5000);
+
+    /**
+     * No delay at all, for tests and simulations.
+     */
+    public static final MachineDelays NONE = new MachineDelays(0, 0, 0, 0, 0, 0);
+
+    private final long moveDelay;
+    private final long specialCardDelay;
+    private final long unoCallMinDelay;
+    private final long unoCallMaxDelay;
+    private final long attackWindowMinDelay;
+    private final long attackWindowMaxDelay;
+
+    /**
+     * Constructs a new MachineDelays instance.
+     *
+     * @param moveDelay            the wait before each machine move
+     * @param specialCardDelay     the extra wait after the machine plays a special card
+     * @param unoCallMinDelay      the minimum wait before the machine calls UNO on the human
+     * @param unoCallMaxDelay      the maximum wait before the machine calls UNO on the human
+     * @param attackWindowMinDelay the minimum time the human has to call UNO on the machine
+     * @param attackWindowMaxDelay the maximum time the human has to call UNO on the machine
+     */
+    public MachineDelays(long moveDelay, long specialCardDelay, long unoCallMinDelay, long unoCallMaxDelay,
+                         long attackWindowMinDelay, long attackWindowMaxDelay) {
+        this.moveDelay = moveDelay;
+        this.specialCardDelay = specialCardDelay;
+        this.unoCallMinDelay = unoCallMinDelay;
+        this.unoCallMaxDelay = unoCallMaxDelay;
+        this.attackWindowMinDelay = attackWindowMinDelay;
+        this.attackWindowMaxDelay = attackWindowMaxDelay;
+    }
+
+    public long getMoveDelay() {
+        return moveDelay;
+    }
+
+    public long getSpecialCardDelay() {
+        return specialCardDelay;
+    }
+
+    /**
+     * Draws the wait before the machine calls UNO on the human.
+     *
+     * @param random the generator to draw from
+     * @return the delay in milliseconds
+     */
+    public long nextUnoCallDelay(RandomGenerator random) {
+        return between(random, unoCallMinDelay, unoCallMaxDelay);
+    }
+
+    /**
+     * Draws the time the human has to call UNO on the machine.
+     *
+     * @param random the generator to draw from
+     * @return the delay in milliseconds
+     */
+    public long nextAttackWindowDelay(RandomGenerator random) {
+        return between(random, attackWindowMinDelay, attackWindowMaxDelay);
+    }
+
+    private static long between(RandomGenerator random, long min, long max) {
+        return max > min ? random.nextLong(min, max) : min;
+    }
+}
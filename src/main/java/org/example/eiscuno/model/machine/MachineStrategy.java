@@ -0,0 +1,59 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.Move;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Chooses the moves of the machine player.
+ * Strategies work on an immutable {@link GameState}, so they can think without holding the game lock.
+ */
+public interface MachineStrategy {
+
+    /**
+     * Chooses a move for the seat whose turn it is.
+     *
+     * @param state           the position, as seen by the machine player
+     * @param thinkTimeMillis the time the strategy may spend thinking, ignored by strategies that do not think
+     * @return a legal move of the current seat: playing a card or drawing one
+     */
+    Move chooseMove(GameState state, long thinkTimeMillis);
+
+    /**
+     * Chooses a move without blocking the caller.
+     * The default implementation chooses on the calling thread.
+     *
+     * @param state           the position, as seen by the machine player
+     * @param thinkTimeMillis the time the strategy may spend thinking
+     * @return the future move
+     */
+    default CompletableFuture<Move> chooseMoveAsync(GameState state, long thinkTimeMillis) {
+        return CompletableFuture.completedFuture(chooseMove(state, thinkTimeMillis));
+    }
+
+    /**
+     * Checks if the strategy uses the think time. The machine player spends the move delay thinking
+     * with such strategies, instead of waiting and then choosing.
+     *
+     * @return true if the strategy thinks, false otherwise
+     */
+    default boolean usesThinkTime() {
+        return false;
+    }
+
+    /**
+     * Creates a strategy from its name.
+     *
+     * @param name "greedy" or "mcts"
+     * @return the strategy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    static MachineStrategy forName(String name) {
+        return switch (name) {
+            case "greedy" -> new GreedyStrategy();
+            case "mcts" -> new MctsStrategy();
+            default -> throw new IllegalArgumentException("Unknown machine strategy: " + name);
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A strategy searching for the best move with information set Monte-Carlo tree search.
+ * The machine cannot see the human's hand, so every iteration deals the human's hand and the deck again
+ * from the cards the machine cannot see, walks a tree of moves shared by every such deal with UCB, and
+ * finishes the game with a quick random playout.
+ * One independent search per thread of a {@link ForkJoinPool} runs until the think time is over, and the
+ * move most visited by all the searches together is played.
+ */
+public class MctsStrategy implements MachineStrategy {
+    private static final double EXPLORATION = 0.7;
+    private static final int PLAYOUT_MOVE_LIMIT = 500;
+
+    private final ForkJoinPool pool;
+    private final SplittableRandom seeds;
+    private final MachineStrategy fallback = new GreedyStrategy();
+    private final LongAdder iterations = new LongAdder();
+
+    /**
+     * Constructs a new MctsStrategy searching on the common pool.
+     */
+    public MctsStrategy() {
+        this(ForkJoinPool.commonPool(), System.nanoTime());
+    }
+
+    /**
+     * Constructs a new MctsStrategy.
+     *
+     * @param pool the pool running the searches, one per thread
+     * @param seed the seed of the deals and playouts
+     */
+    public MctsStrategy(ForkJoinPool pool, long seed) {
+        this.pool = pool;
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Searches for the best move until the think time is over.
+     * Without think time, or with a single legal move, the greedy choice is returned at once.
+     */
+    @Override
+    public Move chooseMove(GameState state, long thinkTimeMillis) {
+        List<Move> rootMoves = state.getLegalMoves();
+        if (thinkTimeMillis <= 0 || rootMoves.size() <= 1) {
+            return fallback.chooseMove(state, thinkTimeMillis);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(thinkTimeMillis);
+        List<SearchTask> tasks = new ArrayList<>();
+        synchronized (seeds) {
+            for (int i = 0; i < pool.getParallelism(); i++) {
+                tasks.add(new SearchTask(state, rootMoves, deadline, seeds.split()));
+            }
+        }
+        RecursiveAction search = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        };
+        if (ForkJoinTask.getPool() == pool) {
+            search.invoke();
+        } else {
+            pool.invoke(search);
+        }
+
+        int[] visits = new int[rootMoves.size()];
+        for (SearchTask task : tasks) {
+            int[] taskVisits = task.join();
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += taskVisits[i];
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return rootMoves.get(best);
+    }
+
+    /**
+     * Runs the search on the pool, leaving the caller free while the machine thinks.
+     */
+    @Override
+    public CompletableFuture<Move> chooseMoveAsync(GameState state, long thinkTimeMillis) {
+        return CompletableFuture.supplyAsync(() -> chooseMove(state, thinkTimeMillis), pool);
+    }
+
+    @Override
+    public boolean usesThinkTime() {
+        return true;
+    }
+
+    /**
+     * Counts the search iterations run so far by this strategy.
+     *
+     * @return the number of iterations
+     */
+    public long getIterationCount() {
+        return iterations.sum();
+    }
+
+    /**
+     * A node of the search tree, reached by playing its move from its parent.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final Move move;
+        private final int seat;
+        private final List<Node> children = new ArrayList<>();
+        private int visits;
+        private int availability;
+        private double wins;
+
+        private Node(Node parent, Move move, int seat) {
+            this.parent = parent;
+            this.move = move;
+            this.seat = seat;
+        }
+
+        private Node childFor(Move move) {
+            for (Node child : children) {
+                if (child.move == move) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One search, running alone on its own tree until the deadline.
+     */
+    private final class SearchTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameState rootState;
+        private final List<Move> rootMoves;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        private SearchTask(GameState rootState, List<Move> rootMoves, long deadline, SplittableRandom random) {
+            this.rootState = rootState;
+            this.rootMoves = rootMoves;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            Node root = new Node(null, null, -1);
+            int hiddenSeat = GameState.opponentOf(rootState.getCurrentSeat());
+            int count = 0;
+            do {
+                GameState state = rootState.redeal(hiddenSeat, random.nextLong());
+                Node node = root;
+
+                // Walk down the tree while every legal move has been tried, then try a new one
+                while (!state.isOver()) {
+                    List<Move> legal = state.getLegalMoves();
+                    Move untried = pickUntried(node, legal);
+                    if (untried != null) {
+                        Node child = new Node(node, untried, state.getCurrentSeat());
+                        node.children.add(child);
+                        node = child;
+                        state = state.apply(untried);
+                        break;
+                    }
+                    node = selectChild(node, legal);
+                    state = state.apply(node.move);
+                }
+
+                int winner = playout(state);
+                for (Node n = node; n != root; n = n.parent) {
+                    n.visits++;
+                    if (winner == n.seat) {
+                        n.wins++;
+                    } else if (winner < 0) {
+                        n.wins += 0.5;
+                    }
+                }
+                count++;
+            } while ((count & 15) != 0 || System.nanoTime() < deadline);
+            iterations.add(count);
+
+            int[] visits = new int[rootMoves.size()];
+            for (int i = 0; i < visits.length; i++) {
+                Node child = root.childFor(rootMoves.get(i));
+                visits[i] = child == null ? 0 : child.visits;
+            }
+            return visits;
+        }
+
+        private Move pickUntried(Node node, List<Move> legal) {
+            int start = random.nextInt(legal.size());
+            for (int i = 0; i < legal.size(); i++) {
+                Move move = legal.get((start + i) % legal.size());
+                if (node.childFor(move) == null) {
+                    return move;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Picks the legal child with the best UCB score, counting how often each child could have been picked.
+         */
+        private Node selectChild(Node node, List<Move> legal) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Move move : legal) {
+                Node child = node.childFor(move);
+                child.availability++;
+                double score = child.wins / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Finishes the game playing random playable cards, drawing only when nothing can be played.
+         *
+         * @return the winning seat, or -1 if the game is still going after the move limit
+         */
+        private int playout(GameState state) {
+            for (int moves = 0; !state.isOver() && moves < PLAYOUT_MOVE_LIMIT; moves++) {
+                int seat = state.getCurrentSeat();
+                long playable = state.getPlayableMask();
+                if (playable == 0) {
+                    state = state.apply(Move.draw(seat));
+                } else {
+                    for (int skip = random.nextInt(Long.bitCount(playable)); skip > 0; skip--) {
+                        playable &= playable - 1;
+                    }
+                    state = state.apply(Move.play(seat, Long.numberOfTrailingZeros(playable)));
+                }
+            }
+            return state.getWinner();
+        }
+    }
+}
@@ -1,171 +1,262 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.application.Platform;
-import javafx.scene.image.ImageView;
+import org.example.eiscuno.log.GameLogger;
+import org.example.eiscuno.metrics.GameMetrics;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameState;
 import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.game.IGameEndObserver;
-import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.game.ITurnObserver;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.game.TurnPhase;
+import org.example.eiscuno.model.game.TurnState;
+import org.example.eiscuno.model.player.IPlayer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * ThreadPlayMachine is a thread that handles the machine player's turn in the Uno game.
+ * ThreadPlayMachine handles the machine player's turn in the Uno game.
  * It plays cards automatically based on the game rules and notifies observers about changes in the game state.
+ * Each move runs as a task on the game scheduler, so no thread is held while the human is playing.
+ * The moves are chosen by a {@link MachineStrategy}; a strategy that thinks spends the move delay
+ * searching instead of waiting.
+ * <p>
+ * The turn order is kept by the game: the machine starts its turn when the game hands it the turn,
+ * and plays, draws and passes through the game's turn commands. At tables of more than two seats,
+ * which the strategies do not model, the machine plays its first playable card, preferring wild cards.
  */
-public class ThreadPlayMachine extends Thread implements IMachineSubject, IGameEndObserver {
-    private Table table;
+public class ThreadPlayMachine implements IMachineSubject, IGameEndObserver, ITurnObserver {
+    private static final GameLogger LOG = GameLogger.getLogger(ThreadPlayMachine.class);
+
     private GameUno gameUno;
-    private Player machinePlayer;
-    private ImageView tableImageView;
-    private volatile boolean hasPlayerPlayed;
+    private IPlayer machinePlayer;
+    private final int seat;
+    private final GameScheduler scheduler;
+    private final MachineStrategy strategy;
+    private final SplittableRandom random;
+    private final AtomicBoolean turnInProgress = new AtomicBoolean(false);
     private List<IMachineObserver> observers = new ArrayList<>();
     private Runnable disablePlayerCards;
     private Runnable enablePlayerCards;
-    private boolean running = true;
-    private boolean isSpecial=false;
+    private Executor callbackExecutor;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new ThreadPlayMachine instance playing with the {@link GreedyStrategy}.
+     *
+     * @param machinePlayer      the machine player
+     * @param gameUno            the Uno game instance, whose callback executor runs the UI callbacks
+     * @param disablePlayerCards the Runnable to disable player cards
+     * @param enablePlayerCards  the Runnable to enable player cards
+     * @param scheduler          the scheduler running the machine moves
+     */
+    public ThreadPlayMachine(IPlayer machinePlayer, GameUno gameUno, Runnable disablePlayerCards, Runnable enablePlayerCards, GameScheduler scheduler) {
+        this(machinePlayer, gameUno, disablePlayerCards, enablePlayerCards, scheduler, new GreedyStrategy());
+    }
 
     /**
      * Constructs a new ThreadPlayMachine instance.
      *
-     * @param table              the game table
      * @param machinePlayer      the machine player
-     * @param tableImageView     the ImageView for the table
-     * @param gameUno            the Uno game instance
+     * @param gameUno            the Uno game instance, whose callback executor runs the UI callbacks
      * @param disablePlayerCards the Runnable to disable player cards
      * @param enablePlayerCards  the Runnable to enable player cards
+     * @param scheduler          the scheduler running the machine moves
+     * @param strategy           the strategy choosing the machine moves
      */
-    public ThreadPlayMachine(Table table, Player machinePlayer, ImageView tableImageView, GameUno gameUno, Runnable disablePlayerCards, Runnable enablePlayerCards) {
-        this.table = table;
+    public ThreadPlayMachine(IPlayer machinePlayer, GameUno gameUno, Runnable disablePlayerCards, Runnable enablePlayerCards,
+                             GameScheduler scheduler, MachineStrategy strategy) {
+        this.strategy = strategy;
+        this.random = gameUno.splitRandom();
         this.machinePlayer = machinePlayer;
-        this.tableImageView = tableImageView;
-        this.hasPlayerPlayed = false;
         this.gameUno = gameUno;
+        this.seat = gameUno.getSeat(machinePlayer);
         this.disablePlayerCards = disablePlayerCards;
         this.enablePlayerCards = enablePlayerCards;
+        this.callbackExecutor = gameUno.getCallbackExecutor();
+        this.scheduler = scheduler;
         gameUno.addGameEndObserver(this); // Add game end observer
+        gameUno.addTurnObserver(this);
     }
 
     /**
-     * The run method of the thread. It handles the machine player's turn logic.
+     * Starts the machine player's turn: disables the human's cards and schedules the first move.
      */
-    public void run() {
-        while (running) {
-            if (hasPlayerPlayed) {
-                Platform.runLater(disablePlayerCards); // Disable player cards
-                playTurn();
-                hasPlayerPlayed = false;
-                Platform.runLater(enablePlayerCards); // Enable player cards
-            }
+    private void startTurn() {
+        callbackExecutor.execute(disablePlayerCards); // Disable player cards
+        scheduleMove(scheduler.getDelays().getMoveDelay());
+    }
+
+    /**
+     * Schedules the next move of the machine player's turn.
+     * A strategy that thinks starts searching at once and the move is played as soon as the delay is over.
+     *
+     * @param delayMillis the wait before the move
+     */
+    private void scheduleMove(long delayMillis) {
+        if (!strategy.usesThinkTime() || gameUno.getSeatCount() != GameState.SEATS) {
+            schedulePlay(null, delayMillis);
+            return;
         }
+        GameState state = gameUno.snapshot(seat, random.nextLong());
+        long start = System.nanoTime();
+        strategy.chooseMoveAsync(state, delayMillis)
+                .whenComplete((move, error) -> {
+                    GameMetrics.MACHINE_THINK.recordSince(start); // Think time, not decision cost
+                    schedulePlay(move, 0);
+                });
     }
 
     /**
-     * Plays the machine player's turn.
+     * Schedules playing a move.
+     *
+     * @param plannedMove the move chosen in advance, or null to choose when playing
+     * @param delayMillis the wait before the move
      */
-    private void playTurn() {
-        boolean specialCardPlayed;
-        do {
-            try {
-                Thread.sleep(2000); // Wait for 2 seconds before each move
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+    private void schedulePlay(Move plannedMove, long delayMillis) {
+        if (scheduler.schedule(() -> playMove(plannedMove), delayMillis) == null) {
+            turnInProgress.set(false); // The game is over
+        }
+    }
 
-            specialCardPlayed = putCardOnTheTable();
+    /**
+     * Plays one move of the machine player's turn, scheduling another one while the turn is still the machine's,
+     * i.e. after a special card. A move that fails still ends the turn in progress, so the next turn change
+     * starts the machine again.
+     *
+     * @param plannedMove the move chosen in advance, or null to choose now
+     */
+    private void playMove(Move plannedMove) {
+        if (!running) {
+            return;
+        }
+        boolean turnContinues = false;
+        try {
+            TurnState state = putCardOnTheTable(plannedMove);
             notifyObservers();
-
-            if (specialCardPlayed) {
-                try {
-                    Thread.sleep(2000); // Wait for 2 seconds if a special card was played
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+            turnContinues = state.isTurnOf(seat) && running;
+        } finally {
+            if (!turnContinues) {
+                turnInProgress.set(false);
+                callbackExecutor.execute(enablePlayerCards); // Enable player cards
             }
-        } while (specialCardPlayed && running);
+        }
+
+        if (turnContinues) {
+            // Wait for the special card to sink in, then for the next move
+            scheduleMove(scheduler.getDelays().getSpecialCardDelay() + scheduler.getDelays().getMoveDelay());
+        } else {
+            onTurnChange(gameUno.getTurnState()); // The human may have handed the turn back in the meantime
+        }
     }
 
     /**
      * Places a card on the table and updates the game state.
+     * The move is checked and made while holding the game lock, so the human cannot change
+     * the table or the hands in between. A planned move the game no longer allows is chosen again.
      *
-     * @return true if a special card was played, false otherwise
+     * @param plannedMove the move chosen in advance, or null to choose now
+     * @return the turn state after the move
      */
-    private boolean putCardOnTheTable() {
-        Card topCard = table.getCurrentCardOnTheTable();
-        Card cardToPlay = null;
-
-        // First, look for a "wild" card
-        for (Card card : machinePlayer.getCardsPlayer()) {
-            if (card.getColor().equals("NON_COLOR")) {
-                cardToPlay = card;
-                break;
+    private TurnState putCardOnTheTable(Move plannedMove) {
+        synchronized (gameUno) {
+            if (!gameUno.getTurnState().isTurnOf(seat)) {
+                return gameUno.getTurnState(); // The game ended while the move was waiting
             }
-        }
-
-        // If no "wild" card is found, look for a playable card
-        if (cardToPlay == null) {
-            for (Card card : machinePlayer.getCardsPlayer()) {
-                if (gameUno.isCardPlayable(card, topCard)) {
-                    cardToPlay = card;
-                    break;
-                }
+            Card cardToPlay = cardFor(plannedMove);
+            if (gameUno.getSeatCount() != GameState.SEATS) {
+                cardToPlay = gameUno.findPlayableCard(machinePlayer);
+            } else if (cardToPlay == null && (plannedMove == null || plannedMove.getType() != Move.Type.DRAW)) {
+                long start = System.nanoTime();
+                Move move = strategy.chooseMove(gameUno.snapshot(seat, random.nextLong()), 0);
+                GameMetrics.MACHINE_DECISION.recordSince(start);
+                cardToPlay = cardFor(move);
             }
-        }
 
-        // Play the found card
-        if (cardToPlay != null) {
-            int pos = findPosCardsMachinePlayer(cardToPlay);
-            if (pos != -1) {
-                machinePlayer.removeCard(pos);
-                table.addCardOnTheTable(cardToPlay);
-                Card finalCardToPlay = cardToPlay;
-                Platform.runLater(() -> {
-                    tableImageView.setImage(finalCardToPlay.getImage());
-                    notifyObservers();
-                    System.out.println("La máquina tiró una carta. Le quedan " + machinePlayer.getCardsPlayer().size() + " cartas.");
-                    this.isSpecial=gameUno.handleSpecialCards(finalCardToPlay, machinePlayer);
-                    if (isSpecial) {
-                        notifyObservers();
-                    }
-                });
+            // Play the found card
+            if (cardToPlay != null) {
+                TurnState state = gameUno.playTurn(machinePlayer, cardToPlay);
+                LOG.debug(gameUno.getGameId(), gameUno.getTurn(), machinePlayer.getTypePlayer(), cardToPlay,
+                        machinePlayer.getHandSize(), "La máquina tiró una carta.");
+                return state;
+            }
 
-                return isSpecial;
+            // If no valid card is found, draw a card from the deck, unless a resumed turn already did, and end the turn
+            if (gameUno.getTurnState().getPhase() == TurnPhase.AWAITING_MOVE) {
+                gameUno.drawTurn(machinePlayer);
             }
-        } else {
-            // If no valid card is found, draw a card from the deck
-            Platform.runLater(() -> {
-                gameUno.eatCard(machinePlayer, 1);
-                System.out.println("La máquina se comió una carta. Le quedan " + machinePlayer.getCardsPlayer().size() + " cartas.");
-                notifyObservers();
-            });
+            LOG.debug(gameUno.getGameId(), gameUno.getTurn(), machinePlayer.getTypePlayer(), null,
+                    machinePlayer.getHandSize(), "La máquina se comió una carta.");
+            return gameUno.passTurn(machinePlayer);
         }
-        return false;
     }
 
     /**
-     * Finds the position of a card in the machine player's hand.
+     * Finds the card of the machine's hand played by a move, if the move can still be played.
      *
-     * @param card the card to find
-     * @return the position of the card, or -1 if not found
+     * @param move the move, or null
+     * @return the card to play, or null if the move does not play a card or the card cannot be played
      */
-    private Integer findPosCardsMachinePlayer(Card card) {
-        for (int i = 0; i < machinePlayer.getCardsPlayer().size(); i++) {
-            if (machinePlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
+    private Card cardFor(Move move) {
+        if (move == null || move.getType() != Move.Type.PLAY) {
+            return null;
+        }
+        Card card = machinePlayer.findCard(1L << move.getCode());
+        if (card == null || !gameUno.isCardPlayable(card, gameUno.getTopCard())) {
+            return null;
         }
-        return -1;
+        return card;
     }
 
     /**
      * Sets the flag indicating that the player has played.
+     * Setting it to true ends the turn of the human at {@link GameState#HUMAN_SEAT}, see {@link #handOff(IPlayer)}.
+     * Setting it to false has no effect, as the turn hands itself back to the human when it ends.
      *
      * @param hasPlayerPlayed the flag value
      */
     public void setHasPlayerPlayed(boolean hasPlayerPlayed) {
-        this.hasPlayerPlayed = hasPlayerPlayed;
+        if (hasPlayerPlayed) {
+            handOff(gameUno.getPlayer(GameState.HUMAN_SEAT));
+        }
+    }
+
+    /**
+     * Ends the turn of the calling player, drawing a card for it first if it has not drawn yet.
+     * Nothing is passed unless it is that player's turn, so a player never ends the turn of another seat.
+     *
+     * @param player the player handing the turn on
+     */
+    public void handOff(IPlayer player) {
+        synchronized (gameUno) {
+            TurnState state = gameUno.getTurnState();
+            int playerSeat = gameUno.getSeat(player);
+            if (playerSeat != seat && state.isTurnOf(playerSeat)) {
+                if (state.getPhase() == TurnPhase.AWAITING_MOVE) {
+                    gameUno.drawTurn(player); // A seat passes only after drawing
+                }
+                gameUno.passTurn(player); // Notifies the seat playing next
+                return;
+            }
+        }
+        onTurnChange(gameUno.getTurnState());
+    }
+
+    /**
+     * Starts the machine's turn when the game hands it the turn, or resumes it with the turn; calls made
+     * while the machine's turn is in progress are ignored.
+     *
+     * @param state the new turn state
+     */
+    @Override
+    public void onTurnChange(TurnState state) {
+        if (state.isTurnOf(seat) && running && turnInProgress.compareAndSet(false, true)) {
+            startTurn();
+        }
     }
 
     @Override
@@ -187,20 +278,20 @@ public class ThreadPlayMachine extends Thread implements IMachineSubject, IGameE
 
     @Override
     public void onGameEnd(String winner) {
-        running = false;
+        stopRunning();
     }
 
     /**
-     * Stops the thread from running.
+     * Stops the machine player; moves already scheduled do nothing once they run.
      */
     public void stopRunning() {
         running = false;
     }
 
     /**
-     * Checks if the thread is still running.
+     * Checks if the machine player is still running.
      *
-     * @return true if the thread is running, false otherwise
+     * @return true if the machine player is running, false otherwise
      */
     public boolean isRunning() {
         return running;
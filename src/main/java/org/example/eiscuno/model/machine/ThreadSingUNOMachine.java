@@ -1,51 +1,74 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.application.Platform;
-import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.game.IGameEndObserver;
+import org.example.eiscuno.model.player.IHandObserver;
+import org.example.eiscuno.model.player.IPlayer;
 
-import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledFuture;
+import java.util.random.RandomGenerator;
 
 /**
- * ThreadSingUNOMachine is a thread that monitors the player's cards and calls "UNO" when the player has one card left.
+ * ThreadSingUNOMachine watches the size of the player's hand and calls "UNO" when the player has one card left.
+ * The call is scheduled on the game scheduler as soon as the hand drops to one card, and cancelled if
+ * the hand grows again before it fires, so nothing runs while the player holds more cards.
  */
-public class ThreadSingUNOMachine implements Runnable, IGameEndObserver {
-    private ArrayList<Card> cardsPlayer;
+public class ThreadSingUNOMachine implements IHandObserver, IGameEndObserver {
     private Runnable machineCallsUNO;
-    private boolean running = true;
+    private GameScheduler scheduler;
+    private final RandomGenerator random;
+    private ScheduledFuture<?> pendingCall;
+    private volatile boolean running = true;
 
     /**
      * Constructs a new ThreadSingUNOMachine instance.
+     * It must be registered as a hand observer of the player it watches.
+     *
+     * @param machineCallsUNO the Runnable that handles the machine calling "UNO", responsible for
+     *                        moving to the UI thread if it needs to
+     * @param scheduler       the scheduler running the UNO call
+     */
+    public ThreadSingUNOMachine(Runnable machineCallsUNO, GameScheduler scheduler) {
+        this(machineCallsUNO, scheduler, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new ThreadSingUNOMachine instance drawing its delays from the given generator.
      *
-     * @param cardsPlayer     the list of player's cards
      * @param machineCallsUNO the Runnable that handles the machine calling "UNO"
+     * @param scheduler       the scheduler running the UNO call
+     * @param random          the generator of the delays, e.g. {@link org.example.eiscuno.model.game.GameUno#splitRandom()}
      */
-    public ThreadSingUNOMachine(ArrayList<Card> cardsPlayer, Runnable machineCallsUNO) {
-        this.cardsPlayer = cardsPlayer;
+    public ThreadSingUNOMachine(Runnable machineCallsUNO, GameScheduler scheduler, RandomGenerator random) {
         this.machineCallsUNO = machineCallsUNO;
+        this.scheduler = scheduler;
+        this.random = random;
     }
 
     /**
-     * The run method of the thread. It continuously checks if the player has one card left.
+     * Schedules the machine's UNO call when the player is left with one card, and cancels it otherwise.
+     *
+     * @param player   the player whose hand changed
+     * @param handSize the new number of cards in the hand
      */
     @Override
-    public void run() {
-        while (running) {
-            try {
-                Thread.sleep(2000 + (long) (Math.random() * 3000)); // Wait for 2 to 5 seconds
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    public synchronized void onHandSizeChanged(IPlayer player, int handSize) {
+        if (handSize == 1 && running) {
+            if (pendingCall == null || pendingCall.isDone()) {
+                pendingCall = scheduler.schedule(machineCallsUNO, scheduler.getDelays().nextUnoCallDelay(random));
             }
-            hasOneCardTheHumanPlayer();
+        } else {
+            cancelPendingCall();
         }
     }
 
     /**
-     * Checks if the player has one card left and triggers the machine to call "UNO".
+     * Cancels the UNO call waiting to fire, if any.
      */
-    private void hasOneCardTheHumanPlayer() {
-        if (cardsPlayer.size() == 1) {
-            Platform.runLater(machineCallsUNO);
+    private void cancelPendingCall() {
+        if (pendingCall != null) {
+            pendingCall.cancel(false);
+            pendingCall = null;
         }
     }
 
@@ -56,20 +79,21 @@ public class ThreadSingUNOMachine implements Runnable, IGameEndObserver {
      */
     @Override
     public void onGameEnd(String winner) {
-        running = false;
+        stopRunning();
     }
 
     /**
-     * Stops the thread from running.
+     * Stops watching the player's hand, cancelling the pending UNO call.
      */
-    public void stopRunning() {
+    public synchronized void stopRunning() {
         running = false;
+        cancelPendingCall();
     }
 
     /**
-     * Checks if the thread is still running.
+     * Checks if the machine is still watching the player's hand.
      *
-     * @return true if the thread is running, false otherwise
+     * @return true if it is running, false otherwise
      */
     public boolean isRunning() {
         return running;
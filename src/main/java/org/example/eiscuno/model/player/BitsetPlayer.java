@@ -0,0 +1,196 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Represents a player whose hand is indexed by card code.
+ * The hand keeps one small bucket of cards per code and a {@code long} mask with a bit set for
+ * every code held, so checking for a playable card, finding it and removing it are constant-time
+ * and allocate nothing once the buckets have grown to their working size.
+ * <p>
+ * The hand is not kept in arrival order: {@link #getCardsPlayer()} lists the cards grouped by code.
+ */
+public class BitsetPlayer implements IPlayer {
+    private final Card[][] cardsByCode = new Card[Card.CODE_COUNT][];
+    private final int[] counts = new int[Card.CODE_COUNT];
+    private long mask;
+    private int size;
+    private final String typePlayer;
+    private final ArrayList<Card> cardsView = new ArrayList<>();
+    private boolean cardsViewDirty;
+    private final List<IHandObserver> handObservers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new BitsetPlayer object with an empty hand of cards.
+     *
+     * @param typePlayer The type of the player, e.g. "MACHINE_PLAYER".
+     */
+    public BitsetPlayer(String typePlayer) {
+        this.typePlayer = typePlayer;
+    }
+
+    /**
+     * Adds a card to the player's hand.
+     *
+     * @param card The card to be added to the player's hand.
+     */
+    @Override
+    public void addCard(Card card) {
+        int code = card.getCode();
+        Card[] bucket = cardsByCode[code];
+        if (bucket == null) {
+            bucket = cardsByCode[code] = new Card[2];
+        } else if (counts[code] == bucket.length) {
+            Card[] grown = new Card[bucket.length * 2];
+            System.arraycopy(bucket, 0, grown, 0, bucket.length);
+            bucket = cardsByCode[code] = grown;
+        }
+        bucket[counts[code]++] = card;
+        mask |= 1L << code;
+        size++;
+        cardsViewDirty = true;
+        notifyHandObservers(size);
+    }
+
+    /**
+     * Retrieves a card from the player's hand based on its index in {@link #getCardsPlayer()}.
+     *
+     * @param index The index of the card to retrieve.
+     * @return The card at the specified index in the player's hand.
+     */
+    @Override
+    public Card getCard(int index) {
+        return getCardsPlayer().get(index);
+    }
+
+    /**
+     * Retrieves all cards currently held by the player, grouped by code.
+     * The returned list is a view rebuilt after every change of the hand and must not be modified.
+     *
+     * @return An ArrayList containing all cards in the player's hand.
+     */
+    @Override
+    public ArrayList<Card> getCardsPlayer() {
+        if (cardsViewDirty) {
+            cardsView.clear();
+            for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                int code = Long.numberOfTrailingZeros(remaining);
+                for (int i = 0; i < counts[code]; i++) {
+                    cardsView.add(cardsByCode[code][i]);
+                }
+            }
+            cardsViewDirty = false;
+        }
+        return cardsView;
+    }
+
+    /**
+     * Removes a card from the player's hand based on its index in {@link #getCardsPlayer()}.
+     *
+     * @param index The index of the card to remove.
+     */
+    @Override
+    public void removeCard(int index) {
+        removeCard(getCard(index));
+    }
+
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return True if the card was in the hand, false otherwise.
+     */
+    @Override
+    public boolean removeCard(Card card) {
+        int code = card.getCode();
+        Card[] bucket = cardsByCode[code];
+        for (int i = 0; i < counts[code]; i++) {
+            if (bucket[i] == card) {
+                int last = --counts[code];
+                bucket[i] = bucket[last];
+                bucket[last] = null;
+                if (last == 0) {
+                    mask &= ~(1L << code);
+                }
+                size--;
+                cardsViewDirty = true;
+                notifyHandObservers(size);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the player holds any card whose code is set in the given mask.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return True if the hand holds at least one such card, false otherwise.
+     */
+    @Override
+    public boolean hasCard(long codeMask) {
+        return (mask & codeMask) != 0;
+    }
+
+    /**
+     * Finds a card whose code is set in the given mask, preferring the lowest code.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return One matching card of the hand, or null if there is none.
+     */
+    @Override
+    public Card findCard(long codeMask) {
+        long matches = mask & codeMask;
+        if (matches == 0) {
+            return null;
+        }
+        int code = Long.numberOfTrailingZeros(matches);
+        return cardsByCode[code][counts[code] - 1];
+    }
+
+    /**
+     * Retrieves the number of cards in the player's hand.
+     *
+     * @return The number of cards held.
+     */
+    @Override
+    public int getHandSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of cards with the given code in the player's hand.
+     *
+     * @param code The code of the cards to count.
+     * @return The number of cards with that code.
+     */
+    public int countCards(int code) {
+        return counts[code];
+    }
+
+    @Override
+    public String getTypePlayer() {
+        return typePlayer;
+    }
+
+    @Override
+    public void addHandObserver(IHandObserver observer) {
+        handObservers.add(observer);
+    }
+
+    @Override
+    public void removeHandObserver(IHandObserver observer) {
+        handObservers.remove(observer);
+    }
+
+    @Override
+    public void notifyHandObservers(int handSize) {
+        for (IHandObserver observer : handObservers) {
+            observer.onHandSizeChanged(this, handSize);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.eiscuno.model.player;
+
+/**
+ * Observer interface for the size of a player's hand.
+ * Classes that implement this interface will be notified every time a card is added to or removed from the hand.
+ */
+public interface IHandObserver {
+
+    /**
+     * Called when the size of the player's hand changes.
+     *
+     * @param player   The player whose hand changed.
+     * @param handSize The new number of cards in the hand.
+     */
+    void onHandSizeChanged(IPlayer player, int handSize);
+}
@@ -0,0 +1,29 @@
+package org.example.eiscuno.model.player;
+
+/**
+ * Subject interface for notifying observers about changes in the size of a player's hand.
+ * Classes that implement this interface can add, remove, and notify hand observers.
+ */
+public interface IHandSubject {
+
+    /**
+     * Adds an observer to be notified when the size of the hand changes.
+     *
+     * @param observer The observer to be added.
+     */
+    void addHandObserver(IHandObserver observer);
+
+    /**
+     * Removes an observer from the notification list.
+     *
+     * @param observer The observer to be removed.
+     */
+    void removeHandObserver(IHandObserver observer);
+
+    /**
+     * Notifies all observers that the size of the hand has changed.
+     *
+     * @param handSize The new number of cards in the hand.
+     */
+    void notifyHandObservers(int handSize);
+}
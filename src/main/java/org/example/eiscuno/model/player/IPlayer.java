@@ -6,9 +6,9 @@ import java.util.ArrayList;
 
 /**
  * Interface representing a player in the Uno game.
- * Provides methods to interact with the player's hand of cards.
+ * Provides methods to interact with the player's hand of cards, and publishes every change of its size.
  */
-public interface IPlayer {
+public interface IPlayer extends IHandSubject {
 
     /**
      * Adds a card to the player's hand.
@@ -32,10 +32,49 @@ public interface IPlayer {
      */
     ArrayList<Card> getCardsPlayer();
 
+    /**
+     * Retrieves the number of cards in the player's hand.
+     *
+     * @return The number of cards held.
+     */
+    int getHandSize();
+
     /**
      * Removes a card from the player's hand based on its index.
      *
      * @param index The index of the card to remove.
      */
     void removeCard(int index);
+
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return True if the card was in the hand, false otherwise.
+     */
+    boolean removeCard(Card card);
+
+    /**
+     * Checks if the player holds any card whose code is set in the given mask,
+     * e.g. {@code Card.playableMask(topCard.getCode())}.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return True if the hand holds at least one such card, false otherwise.
+     */
+    boolean hasCard(long codeMask);
+
+    /**
+     * Finds a card whose code is set in the given mask.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return One matching card of the hand, or null if there is none.
+     */
+    Card findCard(long codeMask);
+
+    /**
+     * Retrieves the type of the player, e.g. "HUMAN_PLAYER" or "MACHINE_PLAYER".
+     *
+     * @return The type of the player.
+     */
+    String getTypePlayer();
 }
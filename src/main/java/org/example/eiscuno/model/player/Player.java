@@ -3,6 +3,8 @@ package org.example.eiscuno.model.player;
 import org.example.eiscuno.model.card.Card;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a player in the Uno game.
@@ -10,6 +12,7 @@ import java.util.ArrayList;
 public class Player implements IPlayer {
     private ArrayList<Card> cardsPlayer;
     private String typePlayer;
+    private final List<IHandObserver> handObservers = new CopyOnWriteArrayList<>();
 
     /**
      * Constructs a new Player object with an empty hand of cards.
@@ -27,6 +30,7 @@ public class Player implements IPlayer {
     @Override
     public void addCard(Card card){
         cardsPlayer.add(card);
+        notifyHandObservers(cardsPlayer.size());
     }
 
     /**
@@ -39,6 +43,16 @@ public class Player implements IPlayer {
         return cardsPlayer;
     }
 
+    /**
+     * Retrieves the number of cards in the player's hand.
+     *
+     * @return The number of cards held.
+     */
+    @Override
+    public int getHandSize() {
+        return cardsPlayer.size();
+    }
+
     /**
      * Removes a card from the player's hand based on its index.
      *
@@ -47,6 +61,49 @@ public class Player implements IPlayer {
     @Override
     public void removeCard(int index) {
         cardsPlayer.remove(index);
+        notifyHandObservers(cardsPlayer.size());
+    }
+
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return True if the card was in the hand, false otherwise.
+     */
+    @Override
+    public boolean removeCard(Card card) {
+        if (!cardsPlayer.remove(card)) {
+            return false;
+        }
+        notifyHandObservers(cardsPlayer.size());
+        return true;
+    }
+
+    /**
+     * Checks if the player holds any card whose code is set in the given mask.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return True if the hand holds at least one such card, false otherwise.
+     */
+    @Override
+    public boolean hasCard(long codeMask) {
+        return findCard(codeMask) != null;
+    }
+
+    /**
+     * Finds the first card of the hand whose code is set in the given mask.
+     *
+     * @param codeMask The mask of the card codes to look for.
+     * @return The first matching card of the hand, or null if there is none.
+     */
+    @Override
+    public Card findCard(long codeMask) {
+        for (Card card : cardsPlayer) {
+            if ((codeMask >>> card.getCode() & 1L) != 0) {
+                return card;
+            }
+        }
+        return null;
     }
 
     /**
@@ -60,7 +117,25 @@ public class Player implements IPlayer {
         return cardsPlayer.get(index);
     }
 
+    @Override
     public String getTypePlayer() {
         return typePlayer;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addHandObserver(IHandObserver observer) {
+        handObservers.add(observer);
+    }
+
+    @Override
+    public void removeHandObserver(IHandObserver observer) {
+        handObservers.remove(observer);
+    }
+
+    @Override
+    public void notifyHandObservers(int handSize) {
+        for (IHandObserver observer : handObservers) {
+            observer.onHandSizeChanged(this, handSize);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.game.TurnPhase;
+
+/**
+ * An immutable snapshot of a game in progress, from which the game can be resumed.
+ * Cards are kept as their codes, see {@link org.example.eiscuno.model.card.Card#getCode()}.
+ */
+public final class GameSnapshot {
+    private final byte[] humanHand;
+    private final byte[] machineHand;
+    private final byte[] deck;
+    private final byte[] discard;
+    private final int currentSeat;
+    private final TurnPhase turnPhase;
+    private final int turn;
+    private final boolean humanCanSingUno;
+    private final boolean machineCanSingUno;
+    private final long seed;
+
+    /**
+     * Constructs a new GameSnapshot. The arrays are copied.
+     *
+     * @param humanHand         the codes of the human player's hand
+     * @param machineHand       the codes of the machine player's hand
+     * @param deck              the codes of the deck, from the bottom to the card drawn next
+     * @param discard           the codes of the discard pile, from the first card played to the card on the table
+     * @param currentSeat       the seat whose turn it is
+     * @param turnPhase         the phase of the turn, AWAITING_MOVE or DREW_CARD
+     * @param turn              the number of cards played so far
+     * @param humanCanSingUno   whether the human player may still call UNO
+     * @param machineCanSingUno whether the machine player may still call UNO
+     * @param seed              the seed of the resumed game's generator
+     * @throws IllegalArgumentException if the discard pile is empty or the turn is not in play
+     */
+    public GameSnapshot(byte[] humanHand, byte[] machineHand, byte[] deck, byte[] discard, int currentSeat,
+                        TurnPhase turnPhase, int turn, boolean humanCanSingUno, boolean machineCanSingUno, long seed) {
+        if (discard.length == 0) {
+            throw new IllegalArgumentException("The discard pile needs a card on the table.");
+        }
+        if (!turnPhase.isInPlay()) {
+            throw new IllegalArgumentException("Only a game in play can be saved: " + turnPhase);
+        }
+        this.humanHand = humanHand.clone();
+        this.machineHand = machineHand.clone();
+        this.deck = deck.clone();
+        this.discard = discard.clone();
+        this.currentSeat = currentSeat;
+        this.turnPhase = turnPhase;
+        this.turn = turn;
+        this.humanCanSingUno = humanCanSingUno;
+        this.machineCanSingUno = machineCanSingUno;
+        this.seed = seed;
+    }
+
+    public byte[] getHumanHand() {
+        return humanHand.clone();
+    }
+
+    public byte[] getMachineHand() {
+        return machineHand.clone();
+    }
+
+    public byte[] getDeck() {
+        return deck.clone();
+    }
+
+    public byte[] getDiscard() {
+        return discard.clone();
+    }
+
+    /**
+     * Gets the code of the card on the table, the last card of the discard pile.
+     *
+     * @return the code of the card on the table
+     */
+    public int getTopCard() {
+        return discard[discard.length - 1];
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public TurnPhase getTurnPhase() {
+        return turnPhase;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public boolean isHumanCanSingUno() {
+        return humanCanSingUno;
+    }
+
+    public boolean isMachineCanSingUno() {
+        return machineCanSingUno;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.TurnPhase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes and reads {@link GameSnapshot}s in a compact binary format.
+ * <p>
+ * Version 2 is, in big-endian order: the magic number (int), the version (short), the flags (byte: bit 0 for
+ * the human's UNO call, bit 1 for the machine's), the current seat (byte), the turn phase (byte, its ordinal),
+ * the turn (int), the seed (long), then the human hand, the machine hand, the deck and the discard pile, each as
+ * a length (short) followed by one byte per card code. Version 1 has no turn phase, and resumes awaiting a move.
+ * A two-player game fits in less than 100 bytes, so a checkpoint after every turn costs a single small write.
+ */
+public final class GameSnapshotCodec {
+    private static final int MAGIC = 0x45554E53; // "EUNS"
+    /** The version written; readers accept this version and any older one. */
+    public static final short VERSION = 2;
+    private static final int FIXED_SIZE = 4 + 2 + 1 + 1 + 1 + 4 + 8;
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+    private static final int MAX_CARDS = Short.MAX_VALUE;
+
+    private GameSnapshotCodec() {
+    }
+
+    /**
+     * Encodes a snapshot.
+     *
+     * @param snapshot the snapshot to encode
+     * @return a buffer holding the encoded snapshot, ready to be written
+     */
+    public static ByteBuffer encode(GameSnapshot snapshot) {
+        byte[][] piles = {snapshot.getHumanHand(), snapshot.getMachineHand(), snapshot.getDeck(), snapshot.getDiscard()};
+        int size = FIXED_SIZE;
+        for (byte[] pile : piles) {
+            size += 2 + pile.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.put((byte) ((snapshot.isHumanCanSingUno() ? 1 : 0) | (snapshot.isMachineCanSingUno() ? 2 : 0)));
+        buffer.put((byte) snapshot.getCurrentSeat());
+        buffer.put((byte) snapshot.getTurnPhase().ordinal());
+        buffer.putInt(snapshot.getTurn());
+        buffer.putLong(snapshot.getSeed());
+        for (byte[] pile : piles) {
+            buffer.putShort((short) pile.length);
+            buffer.put(pile);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param buffer the encoded snapshot
+     * @return the snapshot
+     * @throws IOException if the buffer does not hold a snapshot of a known version, or holds an unknown
+     *                     card code or seat
+     */
+    public static GameSnapshot decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("The data is not a game snapshot.");
+            }
+            short version = buffer.getShort();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported game snapshot version: " + version);
+            }
+            int flags = buffer.get();
+            int currentSeat = buffer.get();
+            if (currentSeat < 0 || currentSeat >= GameState.SEATS) {
+                throw new IOException("Invalid seat in the game snapshot: " + currentSeat);
+            }
+            TurnPhase turnPhase = version < 2 ? TurnPhase.AWAITING_MOVE : readPhase(buffer);
+            int turn = buffer.getInt();
+            long seed = buffer.getLong();
+            byte[] humanHand = readPile(buffer);
+            byte[] machineHand = readPile(buffer);
+            byte[] deck = readPile(buffer);
+            byte[] discard = readPile(buffer);
+            return new GameSnapshot(humanHand, machineHand, deck, discard, currentSeat, turnPhase, turn,
+                    (flags & 1) != 0, (flags & 2) != 0, seed);
+        } catch (RuntimeException e) {
+            throw new IOException("The game snapshot is damaged.", e);
+        }
+    }
+
+    private static TurnPhase readPhase(ByteBuffer buffer) throws IOException {
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= PHASES.length || !PHASES[ordinal].isInPlay()) {
+            throw new IOException("Invalid turn phase in the game snapshot: " + ordinal);
+        }
+        return PHASES[ordinal];
+    }
+
+    private static byte[] readPile(ByteBuffer buffer) throws IOException {
+        int length = buffer.getShort();
+        if (length < 0 || length > MAX_CARDS) {
+            throw new IOException("Invalid number of cards: " + length);
+        }
+        byte[] pile = new byte[length];
+        buffer.get(pile);
+        for (byte code : pile) {
+            if (code < 0 || code >= Card.CODE_COUNT) {
+                throw new IOException("Invalid card code in the game snapshot: " + code);
+            }
+        }
+        return pile;
+    }
+
+    /**
+     * Writes a snapshot to a channel.
+     *
+     * @param snapshot the snapshot to write
+     * @param channel  the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public static void write(GameSnapshot snapshot, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = encode(snapshot);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a snapshot from a channel, up to its end.
+     *
+     * @param channel the channel to read from
+     * @return the snapshot
+     * @throws IOException if the channel cannot be read or does not hold a snapshot
+     */
+    public static GameSnapshot read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+                grown.put(buffer.flip());
+                buffer = grown;
+            }
+        }
+        return decode(buffer.flip());
+    }
+
+    /**
+     * Saves a snapshot to a file. The file is replaced at once, so a crash never leaves half a snapshot.
+     *
+     * @param snapshot the snapshot to save
+     * @param file     the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(GameSnapshot snapshot, Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(snapshot, channel);
+        }
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a snapshot from a file.
+     *
+     * @param file the file to read
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or does not hold a snapshot
+     */
+    public static GameSnapshot load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+}
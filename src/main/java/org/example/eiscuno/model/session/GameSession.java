@@ -0,0 +1,241 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.IGameEndObserver;
+import org.example.eiscuno.model.machine.GameScheduler;
+import org.example.eiscuno.model.machine.ThreadPlayMachine;
+import org.example.eiscuno.model.machine.ThreadSingUNOMachine;
+import org.example.eiscuno.model.player.IHandObserver;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.List;
+
+/**
+ * Represents one game hosted by a {@link GameSessionRuntime}.
+ * A session bundles the game, its machine players and its UNO timer, all running on the
+ * runtime's shared executor, and reports the resources the game has used.
+ * It also keeps whether the human has called UNO, which spares the human the machine's UNO penalty.
+ */
+public class GameSession implements IGameEndObserver, IHandObserver {
+    private final long id;
+    private final long seed;
+    private final GameUno gameUno;
+    private final IPlayer humanPlayer;
+    private final List<IPlayer> machinePlayers;
+    private final Table table;
+    private final GameScheduler scheduler;
+    private final List<ThreadPlayMachine> threadPlayMachines;
+    private final ThreadSingUNOMachine threadSingUNOMachine;
+    private final long createdAtNanos;
+    private volatile String winner;
+    private volatile boolean humanHasSungUno;
+
+    /**
+     * Constructs a new GameSession. Sessions are created by {@link GameSessionRuntime#createSession}.
+     *
+     * @param id                   the identifier of the session
+     * @param seed                 the seed of the game
+     * @param gameUno              the hosted game
+     * @param humanPlayer          the human player of the game, at {@link GameState#HUMAN_SEAT}
+     * @param machinePlayers       the machine players of the game, in seat order
+     * @param table                the table of the game
+     * @param scheduler            the scheduler of the game, on the runtime's executor
+     * @param threadPlayMachines   the machine players' turn handlers, in seat order
+     * @param threadSingUNOMachine the machines' UNO timer on the human's hand
+     */
+    GameSession(long id, long seed, GameUno gameUno, IPlayer humanPlayer, List<IPlayer> machinePlayers, Table table,
+                GameScheduler scheduler, List<ThreadPlayMachine> threadPlayMachines,
+                ThreadSingUNOMachine threadSingUNOMachine) {
+        this.id = id;
+        this.seed = seed;
+        this.gameUno = gameUno;
+        this.humanPlayer = humanPlayer;
+        this.machinePlayers = List.copyOf(machinePlayers);
+        this.table = table;
+        this.scheduler = scheduler;
+        this.threadPlayMachines = List.copyOf(threadPlayMachines);
+        this.threadSingUNOMachine = threadSingUNOMachine;
+        this.createdAtNanos = System.nanoTime();
+        gameUno.addGameEndObserver(this);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the seed the game was created from; a session created again with it deals the same cards.
+     *
+     * @return the seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameUno getGameUno() {
+        return gameUno;
+    }
+
+    public IPlayer getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Gets the machine player seated right after the human.
+     *
+     * @return the first machine player
+     */
+    public IPlayer getMachinePlayer() {
+        return machinePlayers.get(0);
+    }
+
+    public List<IPlayer> getMachinePlayers() {
+        return machinePlayers;
+    }
+
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the turn handler of the machine seated right after the human, through which the human hands the turn on.
+     *
+     * @return the first machine's turn handler
+     */
+    public ThreadPlayMachine getThreadPlayMachine() {
+        return threadPlayMachines.get(0);
+    }
+
+    public List<ThreadPlayMachine> getThreadPlayMachines() {
+        return threadPlayMachines;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return the winner, or null while the game is in progress
+     */
+    public String getWinner() {
+        return winner;
+    }
+
+    /**
+     * Checks if the game of this session has ended.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isFinished() {
+        return winner != null;
+    }
+
+    /**
+     * Counts the tasks this session has scheduled on the runtime's executor.
+     *
+     * @return the number of scheduled tasks
+     */
+    public long getScheduledTaskCount() {
+        return scheduler.getScheduledTaskCount();
+    }
+
+    /**
+     * Counts the tasks of this session that have already run.
+     *
+     * @return the number of executed tasks
+     */
+    public long getExecutedTaskCount() {
+        return scheduler.getExecutedTaskCount();
+    }
+
+    /**
+     * Counts the tasks of this session waiting to run.
+     *
+     * @return the number of pending tasks
+     */
+    public int getPendingTaskCount() {
+        return scheduler.getPendingTaskCount();
+    }
+
+    /**
+     * Gets the time the tasks of this session spent running on the runtime's executor.
+     *
+     * @return the running time in nanoseconds
+     */
+    public long getBusyTimeNanos() {
+        return scheduler.getBusyTimeNanos();
+    }
+
+    /**
+     * Gets the time elapsed since the session was created.
+     *
+     * @return the age of the session in nanoseconds
+     */
+    public long getAgeNanos() {
+        return System.nanoTime() - createdAtNanos;
+    }
+
+    /**
+     * Calls UNO for the human player, which only counts while the human has one card left.
+     *
+     * @return true if the call counts, false otherwise
+     */
+    public boolean singUno() {
+        synchronized (gameUno) {
+            if (gameUno.getHandSize(humanPlayer) != 1) {
+                return false;
+            }
+            humanHasSungUno = true;
+            return true;
+        }
+    }
+
+    /**
+     * Checks if the human player has called UNO on the current last card.
+     *
+     * @return true if the human has called UNO, false otherwise
+     */
+    public boolean hasHumanSungUno() {
+        return humanHasSungUno;
+    }
+
+    /**
+     * Applies the machine's UNO call: the human draws a card if left with one card without having called UNO.
+     */
+    void machineCallsUno() {
+        synchronized (gameUno) {
+            if (gameUno.getHandSize(humanPlayer) == 1 && !humanHasSungUno) {
+                gameUno.haveSungOne(gameUno.getSeat(getMachinePlayer()), GameState.HUMAN_SEAT);
+            }
+        }
+    }
+
+    /**
+     * Forgets the human's UNO call once the human no longer has one card.
+     *
+     * @param player   the player whose hand changed
+     * @param handSize the new number of cards in the hand
+     */
+    @Override
+    public void onHandSizeChanged(IPlayer player, int handSize) {
+        if (handSize != 1) {
+            humanHasSungUno = false;
+        }
+    }
+
+    @Override
+    public void onGameEnd(String winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Stops the machine players and the UNO timer and cancels every pending task of the session.
+     */
+    void close() {
+        for (ThreadPlayMachine threadPlayMachine : threadPlayMachines) {
+            threadPlayMachine.stopRunning();
+        }
+        threadSingUNOMachine.stopRunning();
+        scheduler.shutdown();
+    }
+}
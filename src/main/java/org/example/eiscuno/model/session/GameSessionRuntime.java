@@ -0,0 +1,180 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.GameScheduler;
+import org.example.eiscuno.model.machine.MachineDelays;
+import org.example.eiscuno.model.machine.ThreadPlayMachine;
+import org.example.eiscuno.model.machine.ThreadSingUNOMachine;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many headless games in one process.
+ * The machine turns and UNO timers of every session run as tasks on a single executor with a fixed
+ * number of threads, so the thread count does not grow with the number of tables.
+ */
+public class GameSessionRuntime {
+    private final ScheduledExecutorService executor;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+
+    /**
+     * Constructs a new GameSessionRuntime with one thread per available processor.
+     */
+    public GameSessionRuntime() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new GameSessionRuntime.
+     *
+     * @param threads the number of threads shared by every session
+     */
+    public GameSessionRuntime(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, task -> {
+            Thread thread = new Thread(task, "GameSessionRuntime-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true); // A destroyed session leaves no timer queued behind it
+        this.executor = executor;
+    }
+
+    /**
+     * Creates and starts a new session with a human seat and a machine player.
+     * The human seat is driven by the caller, which hands the turn to the machine through
+     * {@link ThreadPlayMachine#setHasPlayerPlayed(boolean)}, and calls UNO through {@link GameSession#singUno()}.
+     *
+     * @param delays the delays of the machine player and the UNO timers
+     * @return the new session
+     */
+    public GameSession createSession(MachineDelays delays) {
+        return createSession(delays, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates and starts a new session whose deal, machine moves and timers all derive from a seed.
+     *
+     * @param delays the delays of the machine player and the UNO timers
+     * @param seed   the seed of the game
+     * @return the new session
+     */
+    public GameSession createSession(MachineDelays delays, long seed) {
+        return createSession(delays, seed, GameState.SEATS);
+    }
+
+    /**
+     * Creates and starts a new session for a party table: the human plays first, followed by machine players.
+     * Tables too large for the EISC deck play with as many official decks as they need.
+     *
+     * @param delays    the delays of the machine players and the UNO timers
+     * @param seed      the seed of the game
+     * @param seatCount the number of players, from {@link GameUno#MIN_PLAYERS} to {@link GameUno#MAX_PLAYERS}
+     * @return the new session
+     * @throws IllegalArgumentException if the number of players is out of range
+     */
+    public GameSession createSession(MachineDelays delays, long seed, int seatCount) {
+        long id = nextSessionId.getAndIncrement();
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        List<IPlayer> players = new ArrayList<>();
+        players.add(humanPlayer);
+        for (int seat = 1; seat < seatCount; seat++) {
+            players.add(new BitsetPlayer("MACHINE_PLAYER"));
+        }
+        Table table = new Table();
+        SplittableRandom random = new SplittableRandom(seed);
+        GameUno gameUno = new GameUno(players, GameUno.deckFor(seatCount, random.split()), table, Runnable::run, random);
+        GameScheduler scheduler = new GameScheduler(executor, delays);
+        gameUno.addGameEndObserver(scheduler);
+        gameUno.startGame();
+
+        ThreadSingUNOMachine threadSingUNOMachine = new ThreadSingUNOMachine(() -> {
+            GameSession session = sessions.get(id); // Null once the session is destroyed
+            if (session != null) {
+                session.machineCallsUno();
+            }
+        }, scheduler, gameUno.splitRandom());
+        humanPlayer.addHandObserver(threadSingUNOMachine);
+        gameUno.addGameEndObserver(threadSingUNOMachine);
+        List<ThreadPlayMachine> threadPlayMachines = new ArrayList<>();
+        for (IPlayer machinePlayer : players.subList(1, players.size())) {
+            threadPlayMachines.add(new ThreadPlayMachine(machinePlayer, gameUno, () -> {}, () -> {}, scheduler));
+        }
+
+        GameSession session = new GameSession(id, seed, gameUno, humanPlayer, players.subList(1, players.size()), table,
+                scheduler, threadPlayMachines, threadSingUNOMachine);
+        humanPlayer.addHandObserver(session);
+        sessions.put(id, session);
+        return session;
+    }
+
+    /**
+     * Destroys a session, cancelling everything it still has scheduled.
+     *
+     * @param id the identifier of the session
+     * @return true if the session existed, false otherwise
+     */
+    public boolean destroySession(long id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        session.close();
+        return true;
+    }
+
+    /**
+     * Retrieves a session by its identifier.
+     *
+     * @param id the identifier of the session
+     * @return the session, or null if there is none with that identifier
+     */
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Retrieves every live session.
+     *
+     * @return an unmodifiable view of the sessions
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Counts the live sessions.
+     *
+     * @return the number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Destroys every session and stops the shared executor.
+     */
+    public void shutdown() {
+        for (Long id : sessions.keySet()) {
+            destroySession(id);
+        }
+        executor.shutdownNow();
+    }
+}
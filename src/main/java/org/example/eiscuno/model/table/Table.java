@@ -3,18 +3,37 @@ package org.example.eiscuno.model.table;
 import org.example.eiscuno.model.card.Card;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents the table in the Uno game where cards are played.
+ * The table only shows the card on top of the pile, plus optionally the last few cards played;
+ * the discard pile itself is kept by the {@link org.example.eiscuno.model.deck.Deck}, which recycles it.
+ * The memory a table uses is therefore fixed, however long the game lasts.
  */
 public class Table {
-    private ArrayList<Card> cardsTable;
+    private Card currentCard;
+    private final Card[] recentCards; // Ring of the last cards played, oldest overwritten first
+    private int recentCount;
+    private int nextRecent;
 
     /**
-     * Constructs a new Table object with no cards on it.
+     * Constructs a new Table object with no cards on it and no history.
      */
     public Table(){
-        this.cardsTable = new ArrayList<Card>();
+        this(0);
+    }
+
+    /**
+     * Constructs a new Table object with no cards on it that remembers the last cards played.
+     *
+     * @param historySize The number of recent cards to remember, 0 for none.
+     */
+    public Table(int historySize){
+        if (historySize < 0) {
+            throw new IllegalArgumentException("The history size cannot be negative.");
+        }
+        this.recentCards = new Card[historySize];
     }
 
     /**
@@ -23,7 +42,12 @@ public class Table {
      * @param card The card to be added to the table.
      */
     public void addCardOnTheTable(Card card){
-        this.cardsTable.add(card);
+        this.currentCard = card;
+        if (recentCards.length > 0) {
+            recentCards[nextRecent] = card;
+            nextRecent = (nextRecent + 1) % recentCards.length;
+            recentCount = Math.min(recentCount + 1, recentCards.length);
+        }
     }
 
     /**
@@ -33,9 +57,22 @@ public class Table {
      * @throws IndexOutOfBoundsException if there are no cards on the table.
      */
     public Card getCurrentCardOnTheTable() throws IndexOutOfBoundsException {
-        if (cardsTable.isEmpty()) {
+        if (currentCard == null) {
             throw new IndexOutOfBoundsException("There are no cards on the table.");
         }
-        return this.cardsTable.get(this.cardsTable.size()-1);
+        return this.currentCard;
+    }
+
+    /**
+     * Retrieves the last cards played, up to the history size of the table.
+     *
+     * @return The recent cards, the current card first.
+     */
+    public List<Card> getRecentCards() {
+        List<Card> recent = new ArrayList<>(recentCount);
+        for (int i = 1; i <= recentCount; i++) {
+            recent.add(recentCards[Math.floorMod(nextRecent - i, recentCards.length)]);
+        }
+        return recent;
     }
 }
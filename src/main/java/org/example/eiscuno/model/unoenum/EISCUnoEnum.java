@@ -1,5 +1,8 @@
 package org.example.eiscuno.model.unoenum;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum EISCUnoEnum
  *
@@ -71,6 +74,13 @@ public enum EISCUnoEnum {
 
     private final String filePath;
     private static final String PATH = "/org/example/eiscuno/";
+    private static final Map<String, EISCUnoEnum> BY_FILE_PATH = new HashMap<>();
+
+    static {
+        for (EISCUnoEnum value : values()) {
+            BY_FILE_PATH.put(value.filePath, value);
+        }
+    }
 
     /**
      * Constructor for the EISCUnoEnum enum.
@@ -89,4 +99,19 @@ public enum EISCUnoEnum {
     public String getFilePath() {
         return filePath;
     }
+
+    /**
+     * Finds the constant whose full file path matches the given one.
+     *
+     * @param filePath the full file path of the image
+     * @return the constant using that file path
+     * @throws IllegalArgumentException if no constant uses the given file path
+     */
+    public static EISCUnoEnum fromFilePath(String filePath) {
+        EISCUnoEnum value = BY_FILE_PATH.get(filePath);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown image path: " + filePath);
+        }
+        return value;
+    }
 }
@@ -0,0 +1,122 @@
+package org.example.eiscuno.simulation;
+
+import java.io.PrintStream;
+
+/**
+ * Accumulates the results of the games played by a {@link Simulator}.
+ * Player 0 and player 1 are the two strategies of the simulator, whatever seat they had in each game.
+ */
+public class SimulationStats {
+    private long games;
+    private final long[] wins = new long[2];
+    private long unfinished;
+    private long moves;
+    private final long[] cardsDrawn = new long[2];
+    private long elapsedNanos;
+
+    /**
+     * Adds the result of one game.
+     *
+     * @param winner     the winning player, or -1 if the game hit the move limit
+     * @param moves      the number of moves of the game
+     * @param cardsDrawn the number of cards drawn by each player
+     */
+    void add(int winner, int moves, int[] cardsDrawn) {
+        games++;
+        if (winner < 0) {
+            unfinished++;
+        } else {
+            wins[winner]++;
+        }
+        this.moves += moves;
+        this.cardsDrawn[0] += cardsDrawn[0];
+        this.cardsDrawn[1] += cardsDrawn[1];
+    }
+
+    /**
+     * Adds every result of other stats to these ones.
+     *
+     * @param other the stats to add
+     */
+    void combine(SimulationStats other) {
+        games += other.games;
+        wins[0] += other.wins[0];
+        wins[1] += other.wins[1];
+        unfinished += other.unfinished;
+        moves += other.moves;
+        cardsDrawn[0] += other.cardsDrawn[0];
+        cardsDrawn[1] += other.cardsDrawn[1];
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Gets the share of the games won by a player.
+     *
+     * @param player the player, 0 or 1
+     * @return the win rate, between 0 and 1
+     */
+    public double getWinRate(int player) {
+        return games == 0 ? 0 : (double) wins[player] / games;
+    }
+
+    /**
+     * Counts the games stopped at the move limit without a winner.
+     *
+     * @return the number of unfinished games
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public double getAverageMoves() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    public long getCardsDrawn(int player) {
+        return cardsDrawn[player];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played per second of wall-clock time.
+     *
+     * @return the throughput of the simulation
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Prints a summary of the stats.
+     *
+     * @param out   the stream to print to
+     * @param names the names of player 0 and player 1
+     */
+    public void print(PrintStream out, String[] names) {
+        out.printf("Games:             %d (%d unfinished)%n", games, unfinished);
+        for (int player = 0; player < 2; player++) {
+            out.printf("Wins %-12s  %d (%.2f%%), %.2f cards drawn per game%n", names[player] + ":",
+                    wins[player], 100 * getWinRate(player), games == 0 ? 0 : (double) cardsDrawn[player] / games);
+        }
+        out.printf("Average length:    %.2f moves%n", getAverageMoves());
+        out.printf("Throughput:        %.0f games/s (%.2f s)%n", getGamesPerSecond(), elapsedNanos / 1e9);
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.eiscuno.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.game.TurnPhase;
+import org.example.eiscuno.model.game.TurnState;
+import org.example.eiscuno.model.machine.MachineStrategy;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many headless games between two machine strategies, without JavaFX.
+ * Each game is a real {@link GameUno} driven through its turn commands, so the simulation follows the rules
+ * the players meet: a seat that draws may then play or must pass, and the table and its deck are those of a
+ * session with the same number of seats.
+ * Every game is dealt from its own seed, derived from the simulation seed and the index of the game, so a
+ * simulation gives the same results whatever the number of threads, as long as the strategies are
+ * deterministic (searches bounded by time are not). The two strategies swap seats every other game,
+ * so neither profits from playing first. UNO calls are not simulated.
+ * <p>
+ * At tables of more than two seats the strategies sit at alternate seats, but, as the machine players of a
+ * session, every seat plays its first playable card, preferring wild cards: the strategies only model two seats.
+ */
+public class Simulator {
+    /** The number of turn commands after which a game is stopped without a winner. */
+    public static final int MOVE_LIMIT = 2000;
+
+    private final MachineStrategy[] strategies;
+    private final long thinkTimeMillis;
+    private final int seatCount;
+
+    /**
+     * Constructs a new Simulator for two-seat games.
+     *
+     * @param first           the strategy of player 0
+     * @param second          the strategy of player 1
+     * @param thinkTimeMillis the think time given to the strategies for each move
+     */
+    public Simulator(MachineStrategy first, MachineStrategy second, long thinkTimeMillis) {
+        this(first, second, thinkTimeMillis, GameState.SEATS);
+    }
+
+    /**
+     * Constructs a new Simulator.
+     *
+     * @param first           the strategy of player 0
+     * @param second          the strategy of player 1
+     * @param thinkTimeMillis the think time given to the strategies for each move
+     * @param seatCount       the number of seats, from {@link GameUno#MIN_PLAYERS} to {@link GameUno#MAX_PLAYERS}
+     * @throws IllegalArgumentException if the number of seats is out of range
+     */
+    public Simulator(MachineStrategy first, MachineStrategy second, long thinkTimeMillis, int seatCount) {
+        if (seatCount < GameUno.MIN_PLAYERS || seatCount > GameUno.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game seats from " + GameUno.MIN_PLAYERS + " to "
+                    + GameUno.MAX_PLAYERS + " players.");
+        }
+        this.strategies = new MachineStrategy[]{first, second};
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.seatCount = seatCount;
+    }
+
+    /**
+     * Plays the games in parallel and collects their results.
+     *
+     * @param games   the number of games
+     * @param seed    the seed of the simulation
+     * @param threads the number of threads playing games
+     * @return the stats of the games
+     */
+    public SimulationStats run(int games, long seed, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            SimulationStats stats = pool.submit(() -> IntStream.range(0, games).parallel()
+                    .collect(SimulationStats::new,
+                            (partial, game) -> playGame(partial, seed ^ game * 0x9E3779B97F4A7C15L, game % 2 == 1),
+                            SimulationStats::combine))
+                    .get();
+            stats.setElapsedNanos(System.nanoTime() - start);
+            return stats;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The simulation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one game and adds its result to the stats.
+     *
+     * @param stats     the stats receiving the result
+     * @param gameSeed  the seed of the game
+     * @param swapSeats true to give player 0 the odd seats
+     */
+    private void playGame(SimulationStats stats, long gameSeed, boolean swapSeats) {
+        SplittableRandom random = new SplittableRandom(gameSeed);
+        List<IPlayer> seats = new ArrayList<>();
+        for (int seat = 0; seat < seatCount; seat++) {
+            seats.add(new BitsetPlayer("SEAT_" + seat));
+        }
+        GameUno gameUno = new GameUno(seats, GameUno.deckFor(seatCount, random.split()), new Table(), Runnable::run,
+                random.split());
+        gameUno.startGame();
+
+        int[] cardsDrawn = new int[2];
+        int[] handSizes = new int[seatCount];
+        int moves = 0;
+        TurnState turnState = gameUno.getTurnState();
+        while (turnState.getPhase() != TurnPhase.GAME_OVER && moves < MOVE_LIMIT) {
+            int seat = turnState.getCurrentSeat();
+            IPlayer player = seats.get(seat);
+            for (int s = 0; s < seatCount; s++) {
+                handSizes[s] = seats.get(s).getHandSize();
+            }
+            Card card = null;
+            if (turnState.getPhase() == TurnPhase.DREW_CARD) {
+                turnState = gameUno.passTurn(player); // The drawn card is kept, as the machine players do
+            } else {
+                card = chooseCard(gameUno, player, seat, strategies[playerAt(seat, swapSeats)], random);
+                turnState = card != null ? gameUno.playTurn(player, card) : gameUno.drawTurn(player);
+            }
+            for (int s = 0; s < seatCount; s++) {
+                int played = card != null && s == seat ? 1 : 0;
+                cardsDrawn[playerAt(s, swapSeats)] += seats.get(s).getHandSize() - handSizes[s] + played;
+            }
+            moves++;
+        }
+        stats.add(turnState.getPhase() == TurnPhase.GAME_OVER ? playerAt(turnState.getCurrentSeat(), swapSeats) : -1,
+                moves, cardsDrawn);
+    }
+
+    /**
+     * Chooses the card a seat plays at the start of its turn.
+     *
+     * @return the card to play, or null to draw one
+     */
+    private Card chooseCard(GameUno gameUno, IPlayer player, int seat, MachineStrategy strategy,
+                            SplittableRandom random) {
+        if (seatCount != GameState.SEATS) {
+            return gameUno.findPlayableCard(player);
+        }
+        Move move = strategy.chooseMove(gameUno.snapshot(seat, random.nextLong()), thinkTimeMillis);
+        return move.getType() == Move.Type.PLAY ? player.findCard(1L << move.getCode()) : null;
+    }
+
+    /**
+     * Gets the player sitting at a seat: player 0 at the even seats, or at the odd ones when the seats are swapped.
+     */
+    private static int playerAt(int seat, boolean swapSeats) {
+        return (seat + (swapSeats ? 1 : 0)) % 2;
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     * Options: {@code --games=N}, {@code --seed=S}, {@code --threads=T}, {@code --think-ms=M},
+     * {@code --seats=K} and {@code --players=A,B} with the strategy names of {@link MachineStrategy#forName}.
+     * With Maven: {@code mvn -Psimulate compile exec:java -Dsimulator.args="--games=100000 --players=greedy,mcts"}.
+     *
+     * @param args the options
+     */
+    public static void main(String[] args) {
+        int games = 10_000;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long thinkTimeMillis = 0;
+        int seatCount = GameState.SEATS;
+        String[] names = {"greedy", "greedy"};
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Options look like --name=value: " + arg);
+            }
+            switch (option[0]) {
+                case "--games" -> games = Integer.parseInt(option[1]);
+                case "--seed" -> seed = Long.parseLong(option[1]);
+                case "--threads" -> threads = Integer.parseInt(option[1]);
+                case "--think-ms" -> thinkTimeMillis = Long.parseLong(option[1]);
+                case "--seats" -> seatCount = Integer.parseInt(option[1]);
+                case "--players" -> names = option[1].split(",", 2);
+                default -> throw new IllegalArgumentException("Unknown option: " + option[0]);
+            }
+        }
+        if (names.length != 2) {
+            throw new IllegalArgumentException("--players needs two strategies, e.g. --players=greedy,mcts");
+        }
+
+        Simulator simulator = new Simulator(MachineStrategy.forName(names[0]), MachineStrategy.forName(names[1]),
+                thinkTimeMillis, seatCount);
+        System.out.printf("Simulating %d games of %s against %s at %d seats on %d threads (seed %d)%n",
+                games, names[0], names[1], seatCount, threads, seed);
+        simulator.run(games, seed, threads).print(System.out, names);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * Maps the model cards to the images that display them.
+ * Cards of the same kind share one instance, so the nodes that show them belong to the views
+ * that lay them out, such as {@link HandView}; this registry only hands out the shared images.
+ */
+public class CardViewRegistry {
+    private final ImageCache imageCache;
+
+    /**
+     * Constructs a new CardViewRegistry backed by the shared image cache.
+     */
+    public CardViewRegistry() {
+        this(ImageCache.getInstance());
+    }
+
+    /**
+     * Constructs a new CardViewRegistry backed by the given image cache.
+     *
+     * @param imageCache the cache used to obtain the card images
+     */
+    public CardViewRegistry(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    /**
+     * Gets the image of the card.
+     *
+     * @param card the card to display
+     * @return the Image of the card
+     */
+    public Image getCardImage(Card card) {
+        return imageCache.getImage(card.getType());
+    }
+}
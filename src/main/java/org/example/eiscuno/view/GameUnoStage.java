@@ -3,7 +3,6 @@ package org.example.eiscuno.view;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 
@@ -30,8 +29,7 @@ public class GameUnoStage extends Stage {
             throw new IOException("Error while loading FXML file", e);
         }
         Scene scene = new Scene(root);
-        getIcons().add(new Image(
-                String.valueOf(getClass().getResource(EISCUnoEnum.FAVICON.getFilePath()))));
+        getIcons().add(ImageCache.getInstance().getImage(EISCUnoEnum.FAVICON));
         // Configuring the stage
         setTitle("EISC Uno"); // Sets the title of the stage
         setScene(scene); // Sets the scene for the stage
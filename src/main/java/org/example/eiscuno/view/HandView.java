@@ -0,0 +1,99 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import org.example.eiscuno.model.card.Card;
+
+import java.util.function.Consumer;
+
+/**
+ * Displays a hand of cards in a fixed row of cells of a GridPane.
+ * The cells and their mouse handlers are created once; each render only touches the cells whose
+ * card changed, and hides the cells left without a card.
+ */
+public class HandView {
+    private final ImageView[] cells;
+    private final Card[] shownCards;
+    private final CardViewRegistry cardViews;
+    private Image backImage;
+
+    /**
+     * Constructs a new HandView and adds its cells to the grid pane.
+     *
+     * @param gridPane      the grid pane holding the hand
+     * @param cellCount     the number of cards shown at once
+     * @param cardViews     the registry providing the card images
+     * @param onCardClicked the action run with the card of a clicked cell, or null if the cards are not clickable
+     */
+    public HandView(GridPane gridPane, int cellCount, CardViewRegistry cardViews, Consumer<Card> onCardClicked) {
+        this.cells = new ImageView[cellCount];
+        this.shownCards = new Card[cellCount];
+        this.cardViews = cardViews;
+        gridPane.getChildren().clear();
+        for (int i = 0; i < cellCount; i++) {
+            ImageView cell = new ImageView();
+            cell.setY(16);
+            cell.setFitHeight(90);
+            cell.setFitWidth(70);
+            cell.setVisible(false);
+            if (onCardClicked != null) {
+                int index = i;
+                cell.setOnMouseClicked(event -> {
+                    Card card = shownCards[index];
+                    if (card != null) {
+                        onCardClicked.accept(card);
+                    }
+                });
+            }
+            cells[i] = cell;
+            gridPane.add(cell, i, 0);
+        }
+    }
+
+    /**
+     * Shows the given cards face up, one per cell.
+     *
+     * @param cards the cards to show; cells beyond its length are hidden
+     */
+    public void showCards(Card[] cards) {
+        for (int i = 0; i < cells.length; i++) {
+            Card card = i < cards.length ? cards[i] : null;
+            if (card != shownCards[i]) {
+                shownCards[i] = card;
+                if (card != null) {
+                    cells[i].setImage(cardViews.getCardImage(card));
+                }
+                cells[i].setVisible(card != null);
+            }
+        }
+    }
+
+    /**
+     * Shows the back of a card in the first cells.
+     *
+     * @param count     the number of cards to show; cells beyond it are hidden
+     * @param backImage the image of the back of a card
+     */
+    public void showCardBacks(int count, Image backImage) {
+        boolean newBack = backImage != this.backImage;
+        this.backImage = backImage;
+        for (int i = 0; i < cells.length; i++) {
+            if (newBack) {
+                cells[i].setImage(backImage);
+            }
+            cells[i].setVisible(i < count);
+        }
+    }
+
+    /**
+     * Enables or disables clicking on the cards.
+     *
+     * @param disabled true to disable the cards, false to enable them
+     */
+    public void setCardsDisabled(boolean disabled) {
+        for (ImageView cell : cells) {
+            cell.setDisable(disabled);
+        }
+    }
+}
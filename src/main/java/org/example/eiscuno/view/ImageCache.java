@@ -0,0 +1,150 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.lang.ref.SoftReference;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared flyweight cache of the images used in the EISC Uno game.
+ * Every image is decoded at most once per JVM and then handed out to all the views that need it.
+ * The cache is keyed by {@link EISCUnoEnum}, so it is naturally bounded by the number of constants.
+ * When soft references are enabled, the garbage collector may evict images under memory pressure;
+ * they are decoded again on the next request.
+ */
+public class ImageCache {
+    private static final String SOFT_REFERENCES_PROPERTY = "eiscuno.imageCache.soft";
+
+    private final boolean softReferences;
+    private final Map<EISCUnoEnum, Image> strongImages = new EnumMap<>(EISCUnoEnum.class);
+    private final Map<EISCUnoEnum, SoftReference<Image>> softImages = new EnumMap<>(EISCUnoEnum.class);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new ImageCache.
+     *
+     * @param softReferences true to hold the images through soft references, false to keep them for the whole JVM
+     */
+    public ImageCache(boolean softReferences) {
+        this.softReferences = softReferences;
+    }
+
+    /**
+     * Retrieves the image for the given constant, decoding it only on the first request.
+     *
+     * @param key the image to retrieve
+     * @return the shared decoded image
+     */
+    public Image getImage(EISCUnoEnum key) {
+        synchronized (this) {
+            Image image = lookup(key);
+            if (image != null) {
+                hits.increment();
+                return image;
+            }
+        }
+        Image decoded = new Image(String.valueOf(getClass().getResource(key.getFilePath())));
+        synchronized (this) {
+            // Another thread (usually the preloader) may have decoded it meanwhile
+            Image image = lookup(key);
+            if (image != null) {
+                hits.increment();
+                return image;
+            }
+            misses.increment();
+            store(key, decoded);
+            return decoded;
+        }
+    }
+
+    /**
+     * Retrieves the image stored at the given resource path.
+     *
+     * @param filePath the full resource path, as returned by {@link EISCUnoEnum#getFilePath()}
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if no constant uses the given path
+     */
+    public Image getImage(String filePath) {
+        return getImage(EISCUnoEnum.fromFilePath(filePath));
+    }
+
+    /**
+     * Decodes every image on a background daemon thread so the first game does not wait for them.
+     *
+     * @return the started preloading thread
+     */
+    public Thread preloadAsync() {
+        Thread preloader = new Thread(() -> {
+            for (EISCUnoEnum key : EISCUnoEnum.values()) {
+                getImage(key);
+            }
+        }, "ImageCachePreloader");
+        preloader.setDaemon(true);
+        preloader.start();
+        return preloader;
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of requests that had to decode the image.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes every image from the cache.
+     */
+    public synchronized void clear() {
+        strongImages.clear();
+        softImages.clear();
+    }
+
+    private Image lookup(EISCUnoEnum key) {
+        if (softReferences) {
+            SoftReference<Image> reference = softImages.get(key);
+            return reference != null ? reference.get() : null;
+        }
+        return strongImages.get(key);
+    }
+
+    private void store(EISCUnoEnum key, Image image) {
+        if (softReferences) {
+            softImages.put(key, new SoftReference<>(image));
+        } else {
+            strongImages.put(key, image);
+        }
+    }
+
+    /**
+     * Retrieves the shared instance of ImageCache.
+     * Soft references are enabled with the system property {@code eiscuno.imageCache.soft=true}.
+     *
+     * @return the shared instance of ImageCache
+     */
+    public static ImageCache getInstance() {
+        return ImageCacheHolder.INSTANCE;
+    }
+
+    /**
+     * Holder class for the shared instance of ImageCache.
+     * This class ensures lazy initialization of the shared instance.
+     */
+    private static class ImageCacheHolder {
+        private static final ImageCache INSTANCE = new ImageCache(Boolean.getBoolean(SOFT_REFERENCES_PROPERTY));
+    }
+}
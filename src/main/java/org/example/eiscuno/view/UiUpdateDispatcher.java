@@ -0,0 +1,124 @@
+package org.example.eiscuno.view;
+
+import org.example.eiscuno.metrics.GameMetrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batches the UI updates requested by the model into a single pass on the UI thread.
+ * Any thread may mark regions of the screen as dirty; the first mark schedules one pass, and every
+ * mark received before that pass runs is folded into it, so each region is rendered at most once per pass
+ * no matter how many events the model sends.
+ */
+public class UiUpdateDispatcher {
+
+    /**
+     * The regions of the game screen that can be redrawn independently.
+     */
+    public enum Region {
+        TABLE,
+        HUMAN_HAND,
+        MACHINE_HAND,
+        BUTTONS
+    }
+
+    private static final Region[] REGIONS = Region.values();
+
+    private final Executor uiExecutor;
+    private final Map<Region, Runnable> renderers = new EnumMap<>(Region.class);
+    private final AtomicInteger dirtyRegions = new AtomicInteger();
+    private final LongAdder requestedUpdates = new LongAdder();
+    private final LongAdder scheduledPasses = new LongAdder();
+    private final LongAdder renderedRegions = new LongAdder();
+
+    /**
+     * Constructs a new UiUpdateDispatcher.
+     *
+     * @param uiExecutor the executor of the UI thread, e.g. {@code Platform::runLater}
+     */
+    public UiUpdateDispatcher(Executor uiExecutor) {
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Registers the action that redraws a region. Must be called before any update is requested.
+     *
+     * @param region   the region drawn by the action
+     * @param renderer the action redrawing the region, run on the UI thread
+     */
+    public void register(Region region, Runnable renderer) {
+        renderers.put(region, renderer);
+    }
+
+    /**
+     * Marks regions as dirty, scheduling a pass on the UI thread unless one is already pending.
+     *
+     * @param regions the regions to redraw
+     */
+    public void markDirty(Region... regions) {
+        int bits = bitsOf(regions);
+        requestedUpdates.increment();
+        int previous = dirtyRegions.getAndUpdate(dirty -> dirty | bits);
+        if (previous == 0 && bits != 0) {
+            scheduledPasses.increment();
+            uiExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Redraws every dirty region once. Regions marked while the pass runs schedule another pass.
+     */
+    private void flush() {
+        long start = System.nanoTime();
+        int dirty = dirtyRegions.getAndSet(0);
+        for (Region region : REGIONS) {
+            if ((dirty & 1 << region.ordinal()) != 0) {
+                Runnable renderer = renderers.get(region);
+                if (renderer != null) {
+                    renderer.run();
+                    renderedRegions.increment();
+                }
+            }
+        }
+        GameMetrics.RENDER_TIME.recordSince(start);
+    }
+
+    private static int bitsOf(Region[] regions) {
+        int bits = 0;
+        for (Region region : regions) {
+            bits |= 1 << region.ordinal();
+        }
+        return bits;
+    }
+
+    /**
+     * Counts the update requests received from the model.
+     *
+     * @return the number of requested updates
+     */
+    public long getRequestedUpdates() {
+        return requestedUpdates.sum();
+    }
+
+    /**
+     * Counts the passes queued on the UI thread.
+     *
+     * @return the number of scheduled passes
+     */
+    public long getScheduledPasses() {
+        return scheduledPasses.sum();
+    }
+
+    /**
+     * Counts the region redraws actually performed.
+     *
+     * @return the number of rendered regions
+     */
+    public long getRenderedRegions() {
+        return renderedRegions.sum();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.eiscuno.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncRingBufferAppenderTest {
+
+    private static GameEvent event(String message) {
+        return new GameEvent(0, LogLevel.INFO, "test", 1, 0, null, null, -1, message);
+    }
+
+    @Test
+    public void testEventsReachTheDelegateInOrder() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncRingBufferAppender appender = new AsyncRingBufferAppender(e -> written.add(e.getMessage()), 16);
+        for (int i = 0; i < 100; i++) {
+            appender.append(event("event " + i));
+            if (i % 10 == 9) {
+                appender.flush();
+            }
+        }
+        appender.close();
+
+        assertEquals(100, written.size());
+        assertEquals("event 0", written.get(0));
+        assertEquals("event 99", written.get(99));
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    public void testFullBufferDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncRingBufferAppender appender = new AsyncRingBufferAppender(e -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(e.getMessage());
+        }, 4);
+
+        appender.append(event("first"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS), "The writer thread should take the first event.");
+        for (int i = 0; i < 6; i++) {
+            appender.append(event("queued " + i)); // Four fit while the writer is stuck
+        }
+        assertEquals(2, appender.getDroppedCount());
+
+        release.countDown();
+        appender.close();
+        assertEquals(5, written.size());
+    }
+
+    @Test
+    public void testDebugIsOffAtInfo() {
+        LogLevel previous = GameLogger.getLevel();
+        try {
+            GameLogger.setLevel(LogLevel.INFO);
+            GameLogger logger = GameLogger.getLogger(AsyncRingBufferAppenderTest.class);
+            assertFalse(logger.isDebugEnabled());
+            assertTrue(logger.isEnabled(LogLevel.WARN));
+        } finally {
+            GameLogger.setLevel(previous);
+        }
+    }
+}
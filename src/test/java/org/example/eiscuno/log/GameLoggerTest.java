@@ -0,0 +1,16 @@
+package org.example.eiscuno.log;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GameLoggerTest {
+
+    @Test
+    public void testLevelNamesAreReadInAnyCase() {
+        assertEquals(LogLevel.DEBUG, GameLogger.parseLevel("debug"));
+        assertEquals(LogLevel.WARN, GameLogger.parseLevel(" Warn "));
+        assertEquals(LogLevel.INFO, GameLogger.parseLevel(null));
+        assertEquals(LogLevel.INFO, GameLogger.parseLevel("verbose"));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.eiscuno.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistogramTest {
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(Histogram.highestValueOf(bucket) >= value, "The bucket of " + value + " ends too low.");
+            if (bucket > 0) {
+                assertTrue(Histogram.highestValueOf(bucket - 1) < value, "The bucket of " + value + " starts too high.");
+            }
+        }
+    }
+
+    @Test
+    public void testQuantilesAreWithinThePrecision() {
+        Histogram histogram = new MetricsRegistry().histogram("test_nanoseconds", "Test.");
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        long median = histogram.getValueAtQuantile(0.5);
+        assertTrue(Math.abs(median - 50_000_000) <= 50_000_000 / 32, "Median was " + median);
+        long p99 = histogram.getValueAtQuantile(0.99);
+        assertTrue(Math.abs(p99 - 99_000_000) <= 99_000_000 / 32, "99th percentile was " + p99);
+    }
+
+    @Test
+    public void testPrometheusText() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_cards_total", "Cards.").add(3);
+        registry.histogram("test_nanoseconds", "Time.").record(10);
+
+        String text = registry.toPrometheusText();
+        assertTrue(text.contains("# TYPE test_cards_total counter\ntest_cards_total 3\n"), text);
+        assertTrue(text.contains("test_nanoseconds{quantile=\"0.5\"} 10\n"), text);
+        assertTrue(text.contains("test_nanoseconds_count 1\n"), text);
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("test_cards_total", "Cards."));
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeckTest {
+
+    @Test
+    public void testSameSeedShufflesAlike() {
+        Deck first = new Deck(new SplittableRandom(42));
+        Deck second = new Deck(new SplittableRandom(42));
+        Deck other = new Deck(new SplittableRandom(43));
+
+        assertArrayEquals(first.getCardCodes(), second.getCardCodes());
+        assertFalse(Arrays.equals(first.getCardCodes(), other.getCardCodes()), "Another seed should shuffle differently.");
+    }
+
+    @Test
+    public void testSameSeedReplenishesAlike() {
+        // Three times the size of the deck, so it is replenished twice
+        assertArrayEquals(drawAndPlay(new Deck(new SplittableRandom(7))), drawAndPlay(new Deck(new SplittableRandom(7))));
+    }
+
+    @Test
+    public void testReplenishKeepsTheCardOnTheTable() {
+        Deck deck = new Deck(new SplittableRandom(3));
+        Card lastPlayed = null;
+        while (!deck.isEmpty()) {
+            lastPlayed = deck.takeCard();
+            deck.addPlayedCard(lastPlayed);
+        }
+
+        Card drawn = deck.takeCard();
+
+        assertNotSame(lastPlayed, drawn, "The card on the table should not go back into the deck.");
+        assertEquals(Card.CODE_COUNT - 2, deck.getCardCount());
+        assertEquals(1, deck.getPlayedCardCount());
+        assertEquals(lastPlayed.getCode(), deck.getPlayedCardCodes()[0]);
+    }
+
+    @Test
+    public void testCompositions() {
+        assertEquals(54, new Deck().getCardCount());
+        assertEquals(108, DeckComposition.OFFICIAL.size());
+        assertEquals(DeckComposition.OFFICIAL, DeckComposition.forName("official"));
+        assertThrows(IllegalArgumentException.class, () -> DeckComposition.forName("tarot"));
+
+        Deck deck = new Deck(DeckComposition.OFFICIAL, 2, new SplittableRandom(1));
+        int[] counts = new int[Card.CODE_COUNT];
+        while (!deck.isEmpty()) {
+            Card card = deck.takeCard();
+            if (card.getCode() == Card.encode(CardRank.SEVEN, CardColor.RED)) {
+                assertEquals(EISCUnoEnum.RED_7, card.getType());
+            }
+            counts[card.getCode()]++;
+        }
+        assertEquals(2, counts[Card.encode(CardRank.ZERO, CardColor.RED)]);
+        assertEquals(4, counts[Card.encode(CardRank.SEVEN, CardColor.BLUE)]);
+        assertEquals(8, counts[Card.encode(CardRank.FOUR_WILD_DRAW, CardColor.NON_COLOR)]);
+    }
+
+    private static byte[] drawAndPlay(Deck deck) {
+        byte[] codes = new byte[3 * 54];
+        for (int i = 0; i < codes.length; i++) {
+            Card card = deck.takeCard();
+            codes[i] = (byte) card.getCode();
+            deck.addPlayedCard(card);
+        }
+        return codes;
+    }
+}
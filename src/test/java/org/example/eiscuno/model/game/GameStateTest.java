@@ -0,0 +1,98 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameStateTest {
+
+    @Test
+    public void testNewGameDealsLikeGameUno() {
+        GameState state = GameState.newGame(42);
+
+        assertEquals(GameState.INITIAL_HAND_SIZE, state.getHandSize(GameState.HUMAN_SEAT));
+        assertEquals(GameState.INITIAL_HAND_SIZE, state.getHandSize(GameState.MACHINE_SEAT));
+        assertTrue(Card.rankOf(state.getTopCard()).isNumeric(), "The game should start on a numeric card.");
+        assertEquals(Card.CODE_COUNT, totalCards(state));
+    }
+
+    @Test
+    public void testApplyLeavesTheOriginalUnchanged() {
+        byte redSkip = Card.encode(CardRank.SKIP, CardColor.RED);
+        byte redFive = Card.encode(CardRank.FIVE, CardColor.RED);
+        byte[][] hands = {{redSkip, redFive}, {Card.encode(CardRank.ONE, CardColor.BLUE)}};
+        byte[] deck = {Card.encode(CardRank.TWO, CardColor.GREEN), Card.encode(CardRank.THREE, CardColor.GREEN)};
+        byte[] discard = {Card.encode(CardRank.SEVEN, CardColor.RED)};
+        GameState state = GameState.of(hands, deck, discard, GameState.HUMAN_SEAT, 7);
+
+        GameState afterSkip = state.apply(Move.play(GameState.HUMAN_SEAT, redSkip));
+
+        assertNotSame(state, afterSkip);
+        assertEquals(2, state.getHandSize(GameState.HUMAN_SEAT));
+        assertEquals(1, afterSkip.getHandSize(GameState.HUMAN_SEAT));
+        assertEquals(GameState.HUMAN_SEAT, afterSkip.getCurrentSeat(), "A SKIP should keep the turn.");
+
+        GameState afterCatch = afterSkip.apply(Move.catchUno(GameState.MACHINE_SEAT));
+        assertEquals(2, afterCatch.getHandSize(GameState.HUMAN_SEAT));
+        assertEquals(1, afterSkip.getHandSize(GameState.HUMAN_SEAT));
+
+        assertThrows(IllegalStateException.class, () -> state.apply(Move.draw(GameState.MACHINE_SEAT)));
+    }
+
+    @Test
+    public void testRandomPlayoutsKeepEveryCardAndAreReproducible() {
+        for (long seed = 0; seed < 200; seed++) {
+            GameState first = playout(GameState.newGame(seed), seed);
+            GameState second = playout(GameState.newGame(seed), seed);
+
+            assertEquals(Card.CODE_COUNT, totalCards(first));
+            assertEquals(first.getWinner(), second.getWinner());
+            assertEquals(first.getMoveCount(), second.getMoveCount());
+            assertEquals(first.getHandMask(GameState.HUMAN_SEAT), second.getHandMask(GameState.HUMAN_SEAT));
+        }
+    }
+
+    @Test
+    public void testSnapshotMatchesTheGame() {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        Deck deck = new Deck();
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, deck, new Table());
+        gameUno.startGame();
+
+        GameState state = gameUno.snapshot(GameState.HUMAN_SEAT, 1);
+
+        assertEquals(humanPlayer.getHandSize(), state.getHandSize(GameState.HUMAN_SEAT));
+        assertEquals(machinePlayer.getHandSize(), state.getHandSize(GameState.MACHINE_SEAT));
+        assertEquals(deck.getCardCount(), state.getDeckSize());
+        assertEquals(gameUno.getTopCard().getCode(), state.getTopCard());
+        assertEquals(Card.CODE_COUNT, totalCards(state));
+    }
+
+    private static GameState playout(GameState state, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        while (!state.isOver() && state.getMoveCount() < 10_000) {
+            List<Move> moves = state.getLegalMoves();
+            state = state.apply(moves.get(random.nextInt(moves.size())));
+        }
+        return state;
+    }
+
+    private static int totalCards(GameState state) {
+        return state.getDeckSize() + state.getDiscardSize()
+                + state.getHandSize(GameState.HUMAN_SEAT) + state.getHandSize(GameState.MACHINE_SEAT);
+    }
+}
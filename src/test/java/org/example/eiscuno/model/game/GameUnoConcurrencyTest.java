@@ -0,0 +1,142 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays one game through its turn commands from several threads at once, two per seat so each move
+ * races another attempt at it, and checks that every command is applied whole or rejected without
+ * effect, and that no card is lost or duplicated.
+ */
+public class GameUnoConcurrencyTest {
+
+    private static final int ATTEMPTS_PER_THREAD = 100_000;
+    private static final int UNO_CALLS = 2000;
+
+    @RepeatedTest(5)
+    public void testConcurrentTurnsKeepEveryCard() throws InterruptedException {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        Deck deck = new Deck();
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, deck, new Table());
+        int totalCards = deck.getCardCount();
+        gameUno.startGame();
+
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger cardsPlayed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (IPlayer player : List.of(humanPlayer, humanPlayer, machinePlayer, machinePlayer)) {
+            threads.add(new Thread(() -> takeTurns(gameUno, player, cardsPlayed, start, failures)));
+        }
+        threads.add(new Thread(() -> playOutOfTurn(gameUno, start, failures)));
+        threads.add(new Thread(() -> callUno(gameUno, start, failures)));
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+        synchronized (gameUno) {
+            assertEquals(TurnPhase.GAME_OVER, gameUno.getTurnState().getPhase());
+            assertEquals(cardsPlayed.get(), gameUno.getTurn(), "Every accepted play should put one card on the table.");
+            int cardsInGame = deck.getCardCount() + deck.getPlayedCardCount()
+                    + humanPlayer.getHandSize() + machinePlayer.getHandSize();
+            assertEquals(totalCards, cardsInGame, "Every card should be in the deck, the played pile or a hand.");
+        }
+    }
+
+    /**
+     * Plays a seat's turns until the game is over, choosing each move without the game lock, so the
+     * choice may be stale by the time the command runs.
+     */
+    private static void takeTurns(GameUno gameUno, IPlayer player, AtomicInteger cardsPlayed, CountDownLatch start,
+                                  ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                TurnState state = gameUno.getTurnState();
+                if (state.getPhase() == TurnPhase.GAME_OVER) {
+                    return;
+                }
+                Card card = gameUno.findPlayableCard(player);
+                try {
+                    if (state.getPhase() == TurnPhase.DREW_CARD) {
+                        gameUno.passTurn(player);
+                    } else if (card != null) {
+                        gameUno.playTurn(player, card);
+                        cardsPlayed.incrementAndGet();
+                    } else {
+                        gameUno.drawTurn(player);
+                    }
+                } catch (IllegalStateException e) {
+                    // Another thread moved first or it is not this seat's turn: the command is rejected as a whole
+                }
+            }
+        } catch (Throwable e) {
+            failures.add(e);
+        }
+    }
+
+    /**
+     * Sends every turn command for the seat whose turn it is not, and checks that each is rejected
+     * and leaves the game as it was.
+     */
+    private static void playOutOfTurn(GameUno gameUno, CountDownLatch start, ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                synchronized (gameUno) {
+                    TurnState state = gameUno.getTurnState();
+                    IPlayer idle = gameUno.getPlayer(GameState.opponentOf(state.getCurrentSeat()));
+                    IPlayer[] players = {idle, gameUno.getPlayer(state.getCurrentSeat())};
+                    for (IPlayer player : state.getPhase() == TurnPhase.GAME_OVER ? players : new IPlayer[]{idle}) {
+                        int turn = gameUno.getTurn();
+                        int handSize = player.getHandSize();
+                        assertThrows(IllegalStateException.class, () -> gameUno.drawTurn(player));
+                        assertThrows(IllegalStateException.class, () -> gameUno.passTurn(player));
+                        if (handSize > 0) {
+                            assertThrows(IllegalStateException.class, () -> gameUno.playTurn(player, player.getCard(0)));
+                        }
+                        assertSame(state, gameUno.getTurnState());
+                        assertEquals(turn, gameUno.getTurn());
+                        assertEquals(handSize, player.getHandSize());
+                    }
+                    if (state.getPhase() == TurnPhase.GAME_OVER) {
+                        return;
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            failures.add(e);
+        }
+    }
+
+    private static void callUno(GameUno gameUno, CountDownLatch start, ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            for (int i = 0; i < UNO_CALLS && !gameUno.isGameOver(); i++) {
+                gameUno.haveSungOne(i % 2, GameState.opponentOf(i % 2));
+            }
+        } catch (Throwable e) {
+            failures.add(e);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package org.example.eiscuno.model.game;
 
-import javafx.application.Application;
-import javafx.application.Platform;
-import javafx.stage.Stage;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.DeckComposition;
+import org.example.eiscuno.model.player.IPlayer;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GameUnoTest {
 
@@ -22,60 +29,119 @@ public class GameUnoTest {
     private Deck deck;
     private Table table;
 
-    public static class TestApp extends Application {
-        @Override
-        public void start(Stage primaryStage) throws Exception {
-            // No need to show anything
-        }
-    }
-
-    @BeforeAll
-    public static void initJFX() throws Exception {
-        new Thread(() -> Application.launch(TestApp.class)).start();
-        Thread.sleep(5000); // Wait for the JavaFX platform to initialize
-    }
-
     @BeforeEach
     public void setUp() {
-        Platform.runLater(() -> {
-            humanPlayer = new Player("HUMAN_PLAYER");
-            machinePlayer = new Player("MACHINE_PLAYER");
-            deck = new Deck();
-            table = new Table();
-            gameUno = new GameUno(humanPlayer, machinePlayer, deck, table);
-
-            // Start the game and set initial state
-            gameUno.startGame();
-        });
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        deck = new Deck();
+        table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, deck, table);
+
+        // Start the game and set initial state
+        gameUno.startGame();
     }
 
     @Test
     public void testEatCardPlusTwo() {
-        Platform.runLater(() -> {
-            // Create a +2 card
-            Card plusTwoCard = new Card(EISCUnoEnum.TWO_WILD_DRAW_BLUE.getFilePath(), "+2", "BLUE");
+        // Create a +2 card
+        Card plusTwoCard = new Card(EISCUnoEnum.TWO_WILD_DRAW_BLUE.getFilePath(), "+2", "BLUE");
 
-            // Play the +2 card
-            gameUno.playCard(plusTwoCard);
-            gameUno.handleSpecialCards(plusTwoCard, humanPlayer);
+        // Play the +2 card
+        gameUno.playCard(plusTwoCard);
+        gameUno.handleSpecialCards(plusTwoCard, humanPlayer);
 
-            // Check that the machine player ate 2 cards
-            assertEquals(7, machinePlayer.getCardsPlayer().size(), "Machine player debería tener 7 cartas después de comer 2 cartas de una carta +2.");
-        });
+        // Check that the machine player ate 2 cards
+        assertEquals(7, machinePlayer.getCardsPlayer().size(), "Machine player debería tener 7 cartas después de comer 2 cartas de una carta +2.");
     }
 
     @Test
     public void testEatCardPlusFour() {
-        Platform.runLater(() -> {
-            // Create a +4 card
-            Card plusFourCard = new Card(EISCUnoEnum.WILD.getFilePath(), "+4", "NON_COLOR");
+        // Create a +4 card
+        Card plusFourCard = new Card(EISCUnoEnum.WILD.getFilePath(), "+4", "NON_COLOR");
+
+        // Play the +4 card
+        gameUno.playCard(plusFourCard);
+        gameUno.handleSpecialCards(plusFourCard, humanPlayer);
+
+        // Check that the machine player ate 4 cards
+        assertEquals(9, machinePlayer.getCardsPlayer().size(), "Machine player debería tener 9 cartas después de comer 4 cartas de una carta +4.");
+    }
+
+    @Test
+    public void testIsCardPlayable() {
+        Card redSeven = new Card(EISCUnoEnum.RED_7.getFilePath(), "7", "RED");
+        Card redTwo = new Card(EISCUnoEnum.RED_2.getFilePath(), "2", "RED");
+        Card blueSeven = new Card(EISCUnoEnum.BLUE_7.getFilePath(), "7", "BLUE");
+        Card blueSkip = new Card(EISCUnoEnum.SKIP_BLUE.getFilePath(), "SKIP", "BLUE");
+        Card wild = new Card(EISCUnoEnum.WILD.getFilePath(), "WILD", "NON_COLOR");
+
+        assertTrue(gameUno.isCardPlayable(redTwo, redSeven), "Same color should be playable.");
+        assertTrue(gameUno.isCardPlayable(blueSeven, redSeven), "Same value should be playable.");
+        assertFalse(gameUno.isCardPlayable(blueSkip, redSeven), "Different color and value should not be playable.");
+        assertTrue(gameUno.isCardPlayable(wild, redSeven), "A wild card should be playable on anything.");
+        assertTrue(gameUno.isCardPlayable(blueSkip, wild), "Anything should be playable on a wild card.");
+    }
+
+    @Test
+    public void testTurnsFollowTheStateMachine() {
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, GameState.HUMAN_SEAT), gameUno.getTurnState());
+        assertThrows(IllegalStateException.class, () -> gameUno.drawTurn(machinePlayer), "It is not the machine's turn.");
+        assertThrows(IllegalStateException.class, () -> gameUno.passTurn(humanPlayer), "A card must be taken before passing.");
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, GameState.HUMAN_SEAT), gameUno.getTurnState());
+
+        gameUno.drawTurn(humanPlayer);
+        assertEquals(TurnState.of(TurnPhase.DREW_CARD, GameState.HUMAN_SEAT), gameUno.getTurnState());
+        assertThrows(IllegalStateException.class, () -> gameUno.drawTurn(humanPlayer), "Only one card is taken per turn.");
 
-            // Play the +4 card
-            gameUno.playCard(plusFourCard);
-            gameUno.handleSpecialCards(plusFourCard, humanPlayer);
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, GameState.MACHINE_SEAT), gameUno.passTurn(humanPlayer));
+    }
+
+    @Test
+    public void testSkipReverseAndDrawGoRoundTheTable() {
+        List<IPlayer> players = List.of(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"));
+        GameUno party = new GameUno(players, new Deck(new SplittableRandom(3)), new Table(), Runnable::run, new SplittableRandom(3));
+        party.startGame();
+        party.playCard(blue(CardRank.FIVE));
+
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, 2), playBlue(party, 0, CardRank.SKIP));
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, 1), playBlue(party, 2, CardRank.RESERVE));
+        assertEquals(-1, party.getDirection());
+
+        int handBefore = players.get(0).getHandSize();
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, 3), playBlue(party, 1, CardRank.TWO_WILD_DRAW));
+        assertEquals(handBefore + 2, players.get(0).getHandSize());
+        party.drawTurn(players.get(3));
+        assertEquals(TurnState.of(TurnPhase.AWAITING_MOVE, 2), party.passTurn(players.get(3)));
+    }
+
+    @Test
+    public void testTableTooLargeForTheDeckIsRejected() {
+        List<IPlayer> players = new ArrayList<>();
+        for (int seat = 0; seat < GameUno.MAX_PLAYERS; seat++) {
+            players.add(new Player("MACHINE_PLAYER"));
+        }
+        GameUno party = new GameUno(players, new Deck(), new Table(), Runnable::run, new SplittableRandom());
+
+        assertThrows(IllegalStateException.class, party::startGame, "54 cards cannot deal 10 hands and keep a draw pile.");
+    }
+
+    @Test
+    public void testExhaustedDeckEndsTheDraw() {
+        gameUno.eatCard(humanPlayer, 100);
+
+        assertEquals(53, humanPlayer.getHandSize() + machinePlayer.getHandSize(), "Every card but the top one is in a hand.");
+        gameUno.eatCard(machinePlayer, 1); // Nothing left to draw
+        assertEquals(53, humanPlayer.getHandSize() + machinePlayer.getHandSize());
+    }
+
+    private static Card blue(CardRank rank) {
+        return DeckComposition.cardOf(Card.encode(rank, CardColor.BLUE));
+    }
 
-            // Check that the machine player ate 4 cards
-            assertEquals(9, machinePlayer.getCardsPlayer().size(), "Machine player debería tener 9 cartas después de comer 4 cartas de una carta +4.");
-        });
+    private static TurnState playBlue(GameUno game, int seat, CardRank rank) {
+        Card card = blue(rank);
+        game.getPlayer(seat).addCard(card);
+        return game.playTurn(game.getPlayer(seat), card);
     }
 }
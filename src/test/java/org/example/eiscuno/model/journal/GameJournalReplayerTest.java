@@ -0,0 +1,66 @@
+package org.example.eiscuno.model.journal;
+
+import org.example.eiscuno.metrics.GameMetrics;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.IPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameJournalReplayerTest {
+
+    @Test
+    public void testReplayRebuildsTheGame(@TempDir Path dir) throws IOException {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        Deck deck = new Deck(new SplittableRandom(11));
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, deck, new Table());
+        Path file = dir.resolve("game.journal");
+        GameJournal journal = GameJournal.create(file, gameUno.getGameId());
+        gameUno.setJournal(journal);
+        long recycles = GameMetrics.DECK_RECYCLES.get();
+        gameUno.startGame();
+
+        // Both seats draw more than they play, so the deck is replenished several times
+        IPlayer[] seats = {humanPlayer, machinePlayer};
+        for (int move = 0; move < 300 && !gameUno.isGameOver(); move++) {
+            IPlayer player = seats[move % 2];
+            Card card = gameUno.findPlayableCard(player);
+            if (card != null && (move % 3 == 0 || player.getHandSize() > 15)) {
+                gameUno.playCard(player, card);
+            } else if (deck.getCardCount() + deck.getPlayedCardCount() > 6) {
+                gameUno.eatCard(player, 1);
+            }
+            if (move % 50 == 0 && deck.getCardCount() + deck.getPlayedCardCount() > 6) {
+                gameUno.haveSungOne(GameState.MACHINE_SEAT, GameState.HUMAN_SEAT);
+            }
+        }
+        journal.close();
+
+        GameState replayed = GameJournalReplayer.replay(file);
+        GameState expected = gameUno.snapshot(GameState.HUMAN_SEAT, 0);
+        assertTrue(GameMetrics.DECK_RECYCLES.get() > recycles, "The deck should have been replenished.");
+        for (int seat = 0; seat < GameState.SEATS; seat++) {
+            assertEquals(expected.getHandSize(seat), replayed.getHandSize(seat));
+            for (int code = 0; code < Card.CODE_COUNT; code++) {
+                assertEquals(expected.getCardCount(seat, code), replayed.getCardCount(seat, code));
+            }
+        }
+        assertEquals(expected.getTopCard(), replayed.getTopCard());
+        assertEquals(expected.getDeckSize(), replayed.getDeckSize());
+        assertEquals(expected.getDiscardSize(), replayed.getDiscardSize());
+        assertEquals(gameUno.getGameId(), GameJournalReplayer.open(file).getGameId());
+    }
+}
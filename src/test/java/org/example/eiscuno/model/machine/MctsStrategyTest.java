@@ -0,0 +1,90 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardRank;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MctsStrategyTest {
+
+    private ForkJoinPool pool;
+    private MctsStrategy strategy;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(2);
+        strategy = new MctsStrategy(pool, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testPlaysTheWinningCard() {
+        byte redFive = Card.encode(CardRank.FIVE, CardColor.RED);
+        byte[][] hands = {
+                {Card.encode(CardRank.ONE, CardColor.BLUE), Card.encode(CardRank.TWO, CardColor.BLUE)},
+                {redFive}
+        };
+        byte[] deck = {Card.encode(CardRank.THREE, CardColor.GREEN), Card.encode(CardRank.FOUR, CardColor.GREEN)};
+        byte[] discard = {Card.encode(CardRank.SEVEN, CardColor.RED)};
+        GameState state = GameState.of(hands, deck, discard, GameState.MACHINE_SEAT, 3);
+
+        Move move = strategy.chooseMove(state, 100);
+
+        assertEquals(Move.play(GameState.MACHINE_SEAT, redFive), move, "The machine should play its last card.");
+        assertTrue(strategy.getIterationCount() > 0, "The search should have run.");
+    }
+
+    @Test
+    public void testChoosesLegalMoves() {
+        for (long seed = 0; seed < 5; seed++) {
+            GameState state = GameState.newGame(seed).apply(Move.draw(GameState.HUMAN_SEAT));
+
+            Move move = strategy.chooseMove(state, 20);
+
+            assertTrue(state.getLegalMoves().contains(move), "The search should choose a legal move.");
+        }
+    }
+
+    @Test
+    public void testMachineThinksDuringTheMoveDelay() throws InterruptedException {
+        Player humanPlayer;
+        BitsetPlayer machinePlayer;
+        GameUno gameUno;
+        do { // A deal where the machine has a choice, since a single legal move is not searched
+            humanPlayer = new Player("HUMAN_PLAYER");
+            machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+            gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), new Table());
+            gameUno.startGame();
+        } while (gameUno.snapshot(GameState.MACHINE_SEAT, 0).getLegalMoves().size() < 2);
+        GameScheduler gameScheduler = new GameScheduler(new MachineDelays(50, 0, 0, 0, 0, 0));
+        CountDownLatch turnEnded = new CountDownLatch(1);
+        ThreadPlayMachine threadPlayMachine = new ThreadPlayMachine(machinePlayer, gameUno, () -> {},
+                turnEnded::countDown, gameScheduler, strategy);
+
+        threadPlayMachine.setHasPlayerPlayed(true);
+
+        assertTrue(turnEnded.await(10, TimeUnit.SECONDS), "The machine should hand the turn back to the human.");
+        assertTrue(strategy.getIterationCount() > 0, "The machine should have searched during the delay.");
+        gameScheduler.shutdown();
+    }
+}
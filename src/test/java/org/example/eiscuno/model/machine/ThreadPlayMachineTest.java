@@ -0,0 +1,96 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPlayMachineTest {
+
+    private GameScheduler gameScheduler;
+    private ThreadPlayMachine threadPlayMachine;
+    private CountDownLatch turnEnded;
+
+    @BeforeEach
+    public void setUp() {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        Table table = new Table();
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        gameUno.startGame();
+        gameScheduler = new GameScheduler(MachineDelays.NONE);
+        turnEnded = new CountDownLatch(1);
+        threadPlayMachine = new ThreadPlayMachine(machinePlayer, gameUno, () -> {}, turnEnded::countDown, gameScheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gameScheduler.shutdown();
+    }
+
+    @Test
+    public void testIdleMachineSchedulesNothing() {
+        // Waiting for the human must not hold a thread or a pending task
+        assertEquals(0, gameScheduler.getPendingTaskCount(), "An idle machine should not keep any task scheduled.");
+    }
+
+    @Test
+    public void testHandOffPlaysTheMachineTurn() throws InterruptedException {
+        threadPlayMachine.setHasPlayerPlayed(true);
+        assertTrue(turnEnded.await(5, TimeUnit.SECONDS), "The machine should hand the turn back to the human.");
+    }
+
+    @Test
+    public void testFailedMoveDoesNotStopTheMachine() throws InterruptedException {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        BitsetPlayer machinePlayer = new BitsetPlayer("MACHINE_PLAYER");
+        GameUno gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), new Table());
+        gameUno.startGame();
+        Semaphore turnsEnded = new Semaphore(0);
+        ThreadPlayMachine machine = new ThreadPlayMachine(machinePlayer, gameUno, () -> {}, turnsEnded::release,
+                gameScheduler);
+        AtomicBoolean failed = new AtomicBoolean();
+        machine.attach(() -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("The view failed to update.");
+            }
+        });
+
+        machine.setHasPlayerPlayed(true);
+        assertTrue(turnsEnded.tryAcquire(5, TimeUnit.SECONDS), "A failed move should still end the machine's turn.");
+        assertTrue(failed.get());
+        machine.setHasPlayerPlayed(true);
+        assertTrue(turnsEnded.tryAcquire(5, TimeUnit.SECONDS), "The machine should play the turns after a failure.");
+        machine.stopRunning();
+    }
+
+    @Test
+    public void testFailingTaskDoesNotStopTheScheduler() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        gameScheduler.schedule(() -> {
+            throw new IllegalStateException("The task failed.");
+        }, 0);
+        gameScheduler.schedule(ran::countDown, 0);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownRejectsNewTasks() {
+        gameScheduler.shutdown();
+        assertNull(gameScheduler.schedule(() -> {}, 0), "A shut down scheduler should not accept tasks.");
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadSingUNOMachineTest {
+
+    private GameScheduler gameScheduler;
+
+    @AfterEach
+    public void tearDown() {
+        gameScheduler.shutdown();
+    }
+
+    @Test
+    public void testCallsUnoWhenOneCardIsLeft() throws InterruptedException {
+        gameScheduler = new GameScheduler(MachineDelays.NONE);
+        CountDownLatch unoCalled = new CountDownLatch(1);
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        humanPlayer.addHandObserver(new ThreadSingUNOMachine(unoCalled::countDown, gameScheduler));
+
+        humanPlayer.addCard(new Card(EISCUnoEnum.RED_7, "7", "RED"));
+
+        assertTrue(unoCalled.await(5, TimeUnit.SECONDS), "The machine should call UNO once the hand has one card.");
+    }
+
+    @Test
+    public void testGrowingHandCancelsTheCall() {
+        gameScheduler = new GameScheduler(new MachineDelays(0, 0, 60000, 60000, 0, 0));
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        humanPlayer.addHandObserver(new ThreadSingUNOMachine(() -> {}, gameScheduler));
+
+        humanPlayer.addCard(new Card(EISCUnoEnum.RED_7, "7", "RED"));
+        assertEquals(1, gameScheduler.getPendingTaskCount(), "One card left should schedule the UNO call.");
+
+        humanPlayer.addCard(new Card(EISCUnoEnum.BLUE_3, "3", "BLUE"));
+        assertEquals(0, gameScheduler.getPendingTaskCount(), "Drawing a card should cancel the UNO call.");
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BitsetPlayerTest {
+
+    private BitsetPlayer player;
+    private Card redSeven;
+    private Card blueSkip;
+
+    @BeforeEach
+    public void setUp() {
+        player = new BitsetPlayer("MACHINE_PLAYER");
+        redSeven = new Card(EISCUnoEnum.RED_7, "7", "RED");
+        blueSkip = new Card(EISCUnoEnum.SKIP_BLUE, "SKIP", "BLUE");
+        player.addCard(redSeven);
+        player.addCard(blueSkip);
+    }
+
+    @Test
+    public void testFindPlayableCard() {
+        Card greenSeven = new Card(EISCUnoEnum.GREEN_7, "7", "GREEN");
+        Card yellowTwo = new Card(EISCUnoEnum.YELLOW_2, "2", "YELLOW");
+
+        assertSame(redSeven, player.findCard(Card.playableMask(greenSeven.getCode())));
+        assertFalse(player.hasCard(Card.playableMask(yellowTwo.getCode())), "No card should match a yellow 2.");
+        assertNull(player.findCard(Card.colorMask(CardColor.NON_COLOR)), "The hand holds no wild card.");
+    }
+
+    @Test
+    public void testRemoveCardKeepsCopiesOfTheSameCode() {
+        Card otherRedSeven = new Card(EISCUnoEnum.RED_7, "7", "RED");
+        player.addCard(otherRedSeven);
+
+        assertTrue(player.removeCard(redSeven));
+        assertFalse(player.removeCard(redSeven), "A card can only be removed once.");
+        assertSame(otherRedSeven, player.findCard(Card.playableMask(redSeven.getCode())));
+        assertEquals(2, player.getHandSize());
+        assertEquals(2, player.getCardsPlayer().size());
+    }
+}
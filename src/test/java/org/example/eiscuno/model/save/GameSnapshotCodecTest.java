@@ -0,0 +1,112 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.TurnPhase;
+import org.example.eiscuno.model.game.TurnState;
+import org.example.eiscuno.model.player.BitsetPlayer;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameSnapshotCodecTest {
+
+    @Test
+    public void testResumedGameMatchesTheSavedOne(@TempDir Path dir) throws IOException {
+        GameUno game = new GameUno(new Player("HUMAN_PLAYER"), new BitsetPlayer("MACHINE_PLAYER"),
+                new Deck(new SplittableRandom(5)), new Table());
+        game.startGame();
+        game.drawTurn(game.getPlayer(GameState.HUMAN_SEAT));
+        game.passTurn(game.getPlayer(GameState.HUMAN_SEAT)); // Save during the machine's turn
+        Path file = dir.resolve("partida.snapshot");
+        GameSnapshotCodec.save(game.saveSnapshot(false, true, 99), file);
+
+        GameSnapshot snapshot = GameSnapshotCodec.load(file);
+        GameUno resumed = new GameUno(new Player("HUMAN_PLAYER"), new BitsetPlayer("MACHINE_PLAYER"),
+                new Deck(snapshot.getDeck(), snapshot.getDiscard(), new SplittableRandom(snapshot.getSeed())), new Table());
+        resumed.resumeGame(snapshot);
+        assertEquals(GameState.MACHINE_SEAT, snapshot.getCurrentSeat());
+        assertEquals(game.getTurnState(), resumed.getTurnState());
+
+        GameState expected = game.snapshot(GameState.MACHINE_SEAT, 0);
+        GameState actual = resumed.snapshot(snapshot.getCurrentSeat(), 0);
+        for (int seat = 0; seat < GameState.SEATS; seat++) {
+            assertEquals(expected.getHandMask(seat), actual.getHandMask(seat));
+            assertEquals(expected.getHandSize(seat), actual.getHandSize(seat));
+        }
+        assertEquals(expected.getTopCard(), actual.getTopCard());
+        assertEquals(expected.getDiscardSize(), actual.getDiscardSize());
+        assertEquals(expected.getDeckSize(), actual.getDeckSize());
+        assertEquals(game.getTopCard(), resumed.getTopCard());
+        assertTrue(snapshot.isMachineCanSingUno() && !snapshot.isHumanCanSingUno());
+        assertEquals(99, snapshot.getSeed());
+    }
+
+    @Test
+    public void testResumedTurnKeepsItsPhase() throws IOException {
+        GameUno game = new GameUno(new Player("HUMAN_PLAYER"), new BitsetPlayer("MACHINE_PLAYER"),
+                new Deck(new SplittableRandom(8)), new Table());
+        game.startGame();
+        game.drawTurn(game.getPlayer(GameState.HUMAN_SEAT));
+        GameSnapshot snapshot = GameSnapshotCodec.decode(GameSnapshotCodec.encode(game.saveSnapshot(true, true, 1)));
+
+        GameUno resumed = new GameUno(new Player("HUMAN_PLAYER"), new BitsetPlayer("MACHINE_PLAYER"),
+                new Deck(snapshot.getDeck(), snapshot.getDiscard(), new SplittableRandom(1)), new Table());
+        resumed.resumeGame(snapshot);
+
+        assertEquals(TurnState.of(TurnPhase.DREW_CARD, GameState.HUMAN_SEAT), resumed.getTurnState());
+        assertThrows(IllegalStateException.class, () -> resumed.drawTurn(resumed.getPlayer(GameState.HUMAN_SEAT)),
+                "The resumed seat has already drawn this turn.");
+    }
+
+    @Test
+    public void testSnapshotsAreCompact() throws IOException {
+        byte[] deck = new byte[40];
+        GameSnapshot snapshot = new GameSnapshot(new byte[]{1, 2, 3, 4, 5}, new byte[]{6, 7, 8, 9, 10}, deck,
+                new byte[]{52, 3}, GameState.HUMAN_SEAT, TurnPhase.AWAITING_MOVE, 7, true, false, 1);
+
+        ByteBuffer encoded = GameSnapshotCodec.encode(snapshot);
+        assertTrue(encoded.remaining() < 100, "A two-player game should fit in less than 100 bytes.");
+
+        GameSnapshot decoded = GameSnapshotCodec.decode(encoded);
+        assertArrayEquals(snapshot.getHumanHand(), decoded.getHumanHand());
+        assertArrayEquals(snapshot.getDeck(), decoded.getDeck());
+        assertEquals(3, decoded.getTopCard());
+        assertEquals(7, decoded.getTurn());
+    }
+
+    @Test
+    public void testUnknownVersionIsRejected() {
+        ByteBuffer encoded = GameSnapshotCodec.encode(new GameSnapshot(new byte[0], new byte[0], new byte[0],
+                new byte[]{0}, GameState.HUMAN_SEAT, TurnPhase.AWAITING_MOVE, 0, true, true, 0));
+        encoded.putShort(4, (short) (GameSnapshotCodec.VERSION + 1));
+
+        assertThrows(IOException.class, () -> GameSnapshotCodec.decode(encoded));
+    }
+
+    @Test
+    public void testDamagedCodesAndSeatsAreRejected() {
+        ByteBuffer badCode = GameSnapshotCodec.encode(new GameSnapshot(new byte[]{1}, new byte[]{2}, new byte[0],
+                new byte[]{3}, GameState.HUMAN_SEAT, TurnPhase.AWAITING_MOVE, 0, true, true, 0));
+        badCode.put(badCode.limit() - 1, (byte) Card.CODE_COUNT); // The card on the table
+        assertThrows(IOException.class, () -> GameSnapshotCodec.decode(badCode));
+
+        ByteBuffer badSeat = GameSnapshotCodec.encode(new GameSnapshot(new byte[]{1}, new byte[]{2}, new byte[0],
+                new byte[]{3}, GameState.HUMAN_SEAT, TurnPhase.AWAITING_MOVE, 0, true, true, 0));
+        badSeat.put(7, (byte) -1);
+        assertThrows(IOException.class, () -> GameSnapshotCodec.decode(badSeat));
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.MachineDelays;
+import org.example.eiscuno.model.player.IPlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameSessionRuntimeTest {
+
+    private static final int THREADS = 2;
+
+    private GameSessionRuntime runtime;
+
+    @BeforeEach
+    public void setUp() {
+        runtime = new GameSessionRuntime(THREADS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Test
+    public void testThreadCountDoesNotGrowWithSessions() throws InterruptedException {
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            GameSession session = runtime.createSession(MachineDelays.NONE);
+            session.getThreadPlayMachine().setHasPlayerPlayed(true);
+            sessions.add(session);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (sessions.stream().anyMatch(session -> session.getExecutedTaskCount() == 0)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(sessions.stream().allMatch(session -> session.getExecutedTaskCount() > 0),
+                "Every session should have played its machine turn on the shared threads.");
+
+        long runtimeThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("GameSessionRuntime-"))
+                .count();
+        assertEquals(200, runtime.getSessionCount());
+        assertTrue(runtimeThreads <= THREADS, "Sessions should share the runtime threads, found " + runtimeThreads);
+    }
+
+    @Test
+    public void testDestroySessionCancelsItsTasks() {
+        GameSession session = runtime.createSession(MachineDelays.DEFAULT);
+        session.getThreadPlayMachine().setHasPlayerPlayed(true);
+        assertEquals(1, session.getPendingTaskCount(), "The machine move should be waiting for its delay.");
+
+        assertTrue(runtime.destroySession(session.getId()));
+        assertEquals(0, session.getPendingTaskCount(), "Destroying the session should cancel its tasks.");
+        assertFalse(runtime.destroySession(session.getId()), "A session can only be destroyed once.");
+    }
+
+    @Test
+    public void testHumanWhoSangUnoIsNotPenalized() {
+        GameSession session = runtime.createSession(MachineDelays.DEFAULT, 42);
+        IPlayer humanPlayer = session.getHumanPlayer();
+        while (humanPlayer.getHandSize() > 1) {
+            humanPlayer.removeCard(0);
+        }
+
+        assertTrue(session.singUno());
+        session.machineCallsUno();
+        assertEquals(1, humanPlayer.getHandSize(), "The human called UNO in time.");
+
+        humanPlayer.addCard(humanPlayer.getCard(0));
+        humanPlayer.removeCard(0);
+        assertFalse(session.hasHumanSungUno(), "A new last card needs a new call.");
+        session.machineCallsUno();
+        assertEquals(2, humanPlayer.getHandSize(), "The human forgot to call UNO.");
+    }
+
+    @Test
+    public void testPartyTablePlaysToTheEnd() throws InterruptedException {
+        GameSession session = runtime.createSession(MachineDelays.NONE, 7, GameUno.MAX_PLAYERS);
+        assertEquals(GameUno.MAX_PLAYERS - 1, session.getThreadPlayMachines().size());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!session.isFinished() && System.nanoTime() < deadline) {
+            session.getThreadPlayMachine().setHasPlayerPlayed(true); // The human always draws and passes
+            Thread.sleep(1);
+        }
+        assertTrue(session.isFinished(), "A machine should win the party game.");
+    }
+}
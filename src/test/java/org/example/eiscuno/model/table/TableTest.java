@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.table;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TableTest {
+
+    @Test
+    public void testHistoryKeepsOnlyTheLastCards() {
+        Table table = new Table(3);
+        assertThrows(IndexOutOfBoundsException.class, table::getCurrentCardOnTheTable);
+
+        Card[] played = new Card[10];
+        for (int i = 0; i < played.length; i++) {
+            played[i] = new Card(EISCUnoEnum.valueOf("RED_" + i), String.valueOf(i), "RED");
+            table.addCardOnTheTable(played[i]);
+        }
+
+        assertSame(played[9], table.getCurrentCardOnTheTable());
+        assertEquals(List.of(played[9], played[8], played[7]), table.getRecentCards());
+    }
+
+    @Test
+    public void testNoHistoryByDefault() {
+        Table table = new Table();
+        Card card = new Card(EISCUnoEnum.BLUE_5, "5", "BLUE");
+        table.addCardOnTheTable(card);
+
+        assertSame(card, table.getCurrentCardOnTheTable());
+        assertTrue(table.getRecentCards().isEmpty());
+    }
+}
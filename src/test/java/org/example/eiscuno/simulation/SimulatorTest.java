@@ -0,0 +1,37 @@
+package org.example.eiscuno.simulation;
+
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.GreedyStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SimulatorTest {
+
+    @Test
+    public void testResultsDoNotDependOnTheThreadCount() {
+        Simulator simulator = new Simulator(new GreedyStrategy(), new GreedyStrategy(), 0);
+
+        SimulationStats sequential = simulator.run(500, 7, 1);
+        SimulationStats parallel = simulator.run(500, 7, 4);
+
+        assertEquals(500, sequential.getGames());
+        assertEquals(500, sequential.getWins(0) + sequential.getWins(1) + sequential.getUnfinished());
+        assertEquals(sequential.getWins(0), parallel.getWins(0));
+        assertEquals(sequential.getMoves(), parallel.getMoves());
+        assertEquals(sequential.getCardsDrawn(1), parallel.getCardsDrawn(1));
+    }
+
+    @Test
+    public void testPartyTablesPlayTheRulesOfTheGame() {
+        Simulator simulator = new Simulator(new GreedyStrategy(), new GreedyStrategy(), 0, GameUno.MAX_PLAYERS);
+
+        SimulationStats sequential = simulator.run(200, 11, 1);
+        SimulationStats parallel = simulator.run(200, 11, 4);
+
+        assertEquals(200, sequential.getWins(0) + sequential.getWins(1) + sequential.getUnfinished());
+        assertEquals(0, sequential.getUnfinished());
+        assertEquals(sequential.getMoves(), parallel.getMoves());
+        assertEquals(sequential.getCardsDrawn(0), parallel.getCardsDrawn(0));
+    }
+}
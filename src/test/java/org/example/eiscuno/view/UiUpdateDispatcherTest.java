@@ -0,0 +1,38 @@
+package org.example.eiscuno.view;
+
+import org.example.eiscuno.view.UiUpdateDispatcher.Region;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UiUpdateDispatcherTest {
+
+    @Test
+    public void testUpdatesBeforeThePassAreCoalesced() {
+        Queue<Runnable> uiQueue = new ArrayDeque<>();
+        UiUpdateDispatcher dispatcher = new UiUpdateDispatcher(uiQueue::add);
+        AtomicInteger tableRenders = new AtomicInteger();
+        AtomicInteger handRenders = new AtomicInteger();
+        dispatcher.register(Region.TABLE, tableRenders::incrementAndGet);
+        dispatcher.register(Region.HUMAN_HAND, handRenders::incrementAndGet);
+
+        dispatcher.markDirty(Region.TABLE, Region.HUMAN_HAND);
+        dispatcher.markDirty(Region.TABLE);
+        dispatcher.markDirty(Region.HUMAN_HAND);
+        assertEquals(1, uiQueue.size(), "Only one pass should be queued on the UI thread.");
+
+        uiQueue.poll().run();
+        assertEquals(1, tableRenders.get());
+        assertEquals(1, handRenders.get());
+        assertEquals(3, dispatcher.getRequestedUpdates());
+        assertEquals(1, dispatcher.getScheduledPasses());
+        assertEquals(2, dispatcher.getRenderedRegions());
+
+        dispatcher.markDirty(Region.TABLE);
+        assertEquals(1, uiQueue.size(), "A mark after the pass should queue a new one.");
+    }
+}